@@ -0,0 +1,121 @@
+package com.github.gfx.static_gson.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import com.github.gfx.static_gson.ArrayTypeAdapter;
+import com.github.gfx.static_gson.CollectionTypeAdapterFactory;
+import com.github.gfx.static_gson.StaticGsonTypeAdapterFactory;
+import com.github.gfx.static_gson.benchmark.model.FlatModel;
+import com.github.gfx.static_gson.benchmark.model.KotlinModel;
+import com.github.gfx.static_gson.benchmark.model.ListModel;
+import com.github.gfx.static_gson.benchmark.model.NestedModel;
+import com.github.gfx.static_gson.benchmark.model.NumericModel;
+import com.github.gfx.static_gson.benchmark.model.PrivateFieldModel;
+import com.github.gfx.static_gson.benchmark.model.Session;
+import com.github.gfx.static_gson.benchmark.model.TimestampModel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares generated type adapters with Gson's reflective adapters, as {@code example/MainActivity} does on devices.
+ *
+ * Throughput and sampled latency percentiles are reported for each model, and the allocation rate comes from the
+ * {@code gc} profiler, which the {@code jmh} task enables by default.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AdapterBenchmark {
+
+    @Param({"session", "flat", "nested", "list", "numeric", "timestamp", "private", "kotlin"})
+    public String model;
+
+    @Param({"static", "reflective"})
+    public String adapter;
+
+    private Gson gson;
+
+    private Class<?> type;
+
+    private Object value;
+
+    private String json;
+
+    @Setup
+    public void setUp() {
+        switch (adapter) {
+            case "static":
+                gson = new GsonBuilder()
+                        .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                        .registerTypeAdapterFactory(new CollectionTypeAdapterFactory())
+                        .registerTypeAdapterFactory(ArrayTypeAdapter.FACTORY)
+                        .create();
+                break;
+            case "reflective":
+                gson = new GsonBuilder()
+                        .create();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown adapter: " + adapter);
+        }
+
+        switch (model) {
+            case "session":
+                value = new Session();
+                break;
+            case "flat":
+                value = FlatModel.create();
+                break;
+            case "nested":
+                value = NestedModel.create(32);
+                break;
+            case "list":
+                value = ListModel.create(100);
+                break;
+            case "numeric":
+                value = NumericModel.create(100);
+                break;
+            case "timestamp":
+                value = TimestampModel.create(100);
+                break;
+            case "private":
+                value = PrivateFieldModel.create();
+                break;
+            case "kotlin":
+                value = KotlinModel.create();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown model: " + model);
+        }
+        type = value.getClass();
+
+        // both arms parse the same document
+        json = new Gson().toJson(value);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return gson.toJson(value, type);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return gson.fromJson(json, type);
+    }
+}
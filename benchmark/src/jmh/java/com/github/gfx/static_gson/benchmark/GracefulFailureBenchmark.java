@@ -0,0 +1,109 @@
+package com.github.gfx.static_gson.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import com.github.gfx.static_gson.Logger;
+import com.github.gfx.static_gson.StaticGsonTypeAdapterFactory;
+import com.github.gfx.static_gson.benchmark.model.GracefulModel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost per malformed field of the graceful failure path.
+ *
+ * Every field of {@link GracefulModel} gets an object where a scalar is expected. {@code wellFormed} is the
+ * baseline with correct values, {@code production} drops stack traces and has no logger, so messages and paths are
+ * never built, and {@code logged} keeps stack traces and forces messages through a logger.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GracefulFailureBenchmark {
+
+    private static final int FIELD_COUNT = 10;
+
+    @Param({"wellFormed", "production", "logged"})
+    public String mode;
+
+    private Gson gson;
+
+    private String json;
+
+    @SuppressWarnings("unused")
+    private int messageLength;
+
+    @Setup
+    public void setUp() {
+        if (GracefulModel.FIELD_NAMES.length != FIELD_COUNT) {
+            throw new IllegalStateException("FIELD_COUNT must match GracefulModel");
+        }
+
+        gson = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                .create();
+
+        StringBuilder builder = new StringBuilder("{");
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append('"').append(GracefulModel.FIELD_NAMES[i]).append("\":");
+            builder.append(mode.equals("wellFormed") ? wellFormedValue(GracefulModel.FIELD_NAMES[i]) : "{\"a\":[1]}");
+        }
+        json = builder.append('}').toString();
+
+        switch (mode) {
+            case "wellFormed":
+            case "production":
+                Logger.setStackTraceEnabled(false);
+                Logger.setDelegate(null);
+                break;
+            case "logged":
+                Logger.setStackTraceEnabled(true);
+                Logger.setDelegate(ex -> messageLength += ex.getMessage().length());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown mode: " + mode);
+        }
+    }
+
+    private static String wellFormedValue(String name) {
+        if (name.contains("oolean")) {
+            return "true";
+        } else if (name.contains("tring")) {
+            return "\"value\"";
+        } else {
+            return "42";
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        Logger.setStackTraceEnabled(true);
+        Logger.setDelegate(null);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FIELD_COUNT)
+    public GracefulModel read() {
+        return gson.fromJson(json, GracefulModel.class);
+    }
+}
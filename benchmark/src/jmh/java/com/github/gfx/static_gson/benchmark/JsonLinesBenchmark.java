@@ -0,0 +1,145 @@
+package com.github.gfx.static_gson.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import com.github.gfx.static_gson.JsonLinesReader;
+import com.github.gfx.static_gson.JsonLinesWriter;
+import com.github.gfx.static_gson.StaticGsonTypeAdapterFactory;
+import com.github.gfx.static_gson.benchmark.model.ListModel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures lines per second of {@link JsonLinesReader} and {@link JsonLinesWriter} on a file of a million lines,
+ * against a {@code Gson#fromJson} or {@code Gson#toJson} call per line.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonLinesBenchmark {
+
+    private static final int LINE_COUNT = 1000000;
+
+    private Gson gson;
+
+    private File file;
+
+    private ListModel.Item[] items;
+
+    @Setup
+    public void setUp() throws IOException {
+        gson = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                .create();
+
+        items = new ListModel.Item[LINE_COUNT];
+        for (int i = 0; i < LINE_COUNT; i++) {
+            items[i] = ListModel.Item.create(i);
+        }
+
+        file = File.createTempFile("lines", ".ndjson");
+        try (JsonLinesWriter<ListModel.Item> writer = new JsonLinesWriter<>(gson, ListModel.Item.class,
+                Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))) {
+            for (ListModel.Item item : items) {
+                writer.write(item);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINE_COUNT)
+    public long readLines() throws IOException {
+        long sum = 0;
+        try (JsonLinesReader<ListModel.Item> reader = new JsonLinesReader<>(gson, ListModel.Item.class,
+                Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8))) {
+            while (reader.hasNext()) {
+                sum += reader.next().id;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINE_COUNT)
+    public long readLinesWithFromJson() throws IOException {
+        long sum = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                sum += gson.fromJson(line, ListModel.Item.class).id;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINE_COUNT)
+    public void writeLines() throws IOException {
+        try (JsonLinesWriter<ListModel.Item> writer = new JsonLinesWriter<>(gson, ListModel.Item.class,
+                new BufferedWriter(new NullWriter()))) {
+            for (ListModel.Item item : items) {
+                writer.write(item);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINE_COUNT)
+    public void writeLinesWithToJson() throws IOException {
+        try (Writer writer = new BufferedWriter(new NullWriter())) {
+            for (ListModel.Item item : items) {
+                writer.write(gson.toJson(item, ListModel.Item.class));
+                writer.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Discards output, so that writes are not bound by the disk
+     */
+    static class NullWriter extends Writer {
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.gfx.static_gson.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+
+import com.github.gfx.static_gson.MapTypeAdapterFactory;
+import com.github.gfx.static_gson.StaticGsonTypeAdapterFactory;
+import com.github.gfx.static_gson.benchmark.model.ListModel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads and writes a map of 10k {@link ListModel.Item} with {@link MapTypeAdapterFactory}, against Gson's own map
+ * adapter with the same generated adapters for values. {@code complex} enables complex map key serialization, where
+ * Gson converts every key into a {@code JsonElement}.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapBenchmark {
+
+    private static final int ENTRY_COUNT = 10000;
+
+    @Param({"static", "gson"})
+    public String adapter;
+
+    @Param({"string", "int"})
+    public String key;
+
+    @Param({"false", "true"})
+    public boolean complex;
+
+    private TypeAdapter<Map<Object, ListModel.Item>> mapAdapter;
+
+    private Map<Object, ListModel.Item> map;
+
+    private String json;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        GsonBuilder builder = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance());
+        switch (adapter) {
+            case "static":
+                builder.registerTypeAdapterFactory(new MapTypeAdapterFactory(complex));
+                break;
+            case "gson":
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown adapter: " + adapter);
+        }
+        if (complex) {
+            builder.enableComplexMapKeySerialization();
+        }
+        Gson gson = builder.create();
+
+        map = new LinkedHashMap<>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(key.equals("string") ? "key-" + i : (Object) i, ListModel.Item.create(i));
+        }
+
+        TypeToken<?> mapType;
+        if (key.equals("string")) {
+            mapType = new TypeToken<Map<String, ListModel.Item>>() {
+            };
+        } else {
+            mapType = new TypeToken<Map<Integer, ListModel.Item>>() {
+            };
+        }
+        mapAdapter = (TypeAdapter<Map<Object, ListModel.Item>>) gson.getAdapter(mapType);
+        json = mapAdapter.toJson(map);
+    }
+
+    @Benchmark
+    public Map<Object, ListModel.Item> read() throws IOException {
+        return mapAdapter.fromJson(json);
+    }
+
+    @Benchmark
+    public String write() {
+        return mapAdapter.toJson(map);
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.gfx.static_gson.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import com.github.gfx.static_gson.Metrics;
+import com.github.gfx.static_gson.MetricsRecorder;
+import com.github.gfx.static_gson.StaticGsonTypeAdapterFactory;
+import com.github.gfx.static_gson.benchmark.model.NestedModel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of {@link MetricsRecorder}, which times every nested adapter of {@link NestedModel}.
+ *
+ * {@code contended} parses on several threads at once, so that all of them count into the same counters.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MetricsBenchmark {
+
+    @Param({"off", "recorder"})
+    public String metrics;
+
+    private Gson gson;
+
+    private String json;
+
+    @Setup
+    public void setUp() {
+        switch (metrics) {
+            case "off":
+                Metrics.setDelegate(null);
+                break;
+            case "recorder":
+                Metrics.setDelegate(new MetricsRecorder());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown metrics: " + metrics);
+        }
+
+        gson = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                .create();
+        json = gson.toJson(NestedModel.create(32));
+    }
+
+    @TearDown
+    public void tearDown() {
+        Metrics.setDelegate(null);
+    }
+
+    @Benchmark
+    public NestedModel deserialize() {
+        return gson.fromJson(json, NestedModel.class);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public NestedModel contended() {
+        return gson.fromJson(json, NestedModel.class);
+    }
+}
@@ -0,0 +1,115 @@
+package com.github.gfx.static_gson.benchmark;
+
+import com.github.gfx.static_gson.JsonNameTable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link JsonNameTable} with {@code switch (reader.nextName())}, which generated adapters used before.
+ *
+ * Each operation dispatches all the keys of one object. Keys are copied into a new String for every lookup, as
+ * {@link com.google.gson.stream.JsonReader#nextName()} does, so that {@link String#hashCode()} is never cached.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NameDispatchBenchmark {
+
+    private static final String[] WORDS = {
+            "id", "name", "title", "description", "created_at", "updated_at", "url", "type", "status", "user_id",
+            "count", "enabled", "tags", "label", "value",
+    };
+
+    @Param({"5", "30", "100"})
+    public int fieldCount;
+
+    private char[][] keys;
+
+    private String[] names;
+
+    private JsonNameTable nameTable;
+
+    /**
+     * Sorted hash codes of {@link #names}, as in the {@code lookupswitch} that javac emits for a string switch
+     */
+    private int[] hashes;
+
+    private int[] hashIndexes;
+
+    @Setup
+    public void setUp() {
+        names = new String[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            String word = WORDS[i % WORDS.length];
+            names[i] = i < WORDS.length ? word : word + "_" + (i / WORDS.length);
+        }
+        nameTable = new JsonNameTable(names);
+
+        long[] hashAndIndex = new long[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            hashAndIndex[i] = ((long) names[i].hashCode() << 32) | i;
+        }
+        Arrays.sort(hashAndIndex);
+        hashes = new int[fieldCount];
+        hashIndexes = new int[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            hashes[i] = (int) (hashAndIndex[i] >> 32);
+            hashIndexes[i] = (int) hashAndIndex[i];
+            if (i > 0 && hashes[i] == hashes[i - 1]) {
+                throw new IllegalStateException("Hash collision in benchmark names");
+            }
+        }
+
+        // the order of keys in a document rarely matches the order of fields
+        keys = new char[fieldCount][];
+        for (int i = 0; i < fieldCount; i++) {
+            keys[i] = names[(i * 7 + 3) % fieldCount].toCharArray();
+        }
+    }
+
+    /**
+     * The lowering of {@code switch (name)}: {@code lookupswitch} on the hash code, then {@code equals()}.
+     */
+    private int switchIndexOf(String name) {
+        int i = Arrays.binarySearch(hashes, name.hashCode());
+        if (i < 0) {
+            return -1;
+        }
+        int index = hashIndexes[i];
+        return names[index].equals(name) ? index : -1;
+    }
+
+    @Benchmark
+    public int stringSwitch() {
+        int sum = 0;
+        for (char[] key : keys) {
+            sum += switchIndexOf(new String(key));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int nameTable() {
+        int sum = 0;
+        for (char[] key : keys) {
+            sum += nameTable.indexOf(new String(key));
+        }
+        return sum;
+    }
+}
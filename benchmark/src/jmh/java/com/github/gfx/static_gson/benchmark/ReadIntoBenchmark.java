@@ -0,0 +1,68 @@
+package com.github.gfx.static_gson.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+
+import com.github.gfx.static_gson.ArrayTypeAdapter;
+import com.github.gfx.static_gson.CollectionTypeAdapterFactory;
+import com.github.gfx.static_gson.ParserHelper;
+import com.github.gfx.static_gson.StaticGsonTypeAdapterFactory;
+import com.github.gfx.static_gson.benchmark.model.Session;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses {@link Session} into a new instance with {@code read()}, and into the same instance with {@code readInto()},
+ * as a polling loop with pooled models does. Compare {@code gc.alloc.rate.norm} for the allocation per operation.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadIntoBenchmark {
+
+    private TypeAdapter<Session> adapter;
+
+    private String json;
+
+    private Session session;
+
+    @Setup
+    public void setUp() {
+        Gson gson = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                .registerTypeAdapterFactory(new CollectionTypeAdapterFactory())
+                .registerTypeAdapterFactory(ArrayTypeAdapter.FACTORY)
+                .create();
+        adapter = gson.getAdapter(Session.class);
+        json = gson.toJson(new Session());
+        session = gson.fromJson(json, Session.class);
+    }
+
+    @Benchmark
+    public Session read() throws IOException {
+        return adapter.read(new JsonReader(new StringReader(json)));
+    }
+
+    @Benchmark
+    public Session readInto() throws IOException {
+        return ParserHelper.readInto(adapter, new JsonReader(new StringReader(json)), session);
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.gfx.static_gson.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import com.github.gfx.static_gson.ArrayTypeAdapter;
+import com.github.gfx.static_gson.CollectionTypeAdapterFactory;
+import com.github.gfx.static_gson.StaticGsonSerializer;
+import com.github.gfx.static_gson.StaticGsonTypeAdapterFactory;
+import com.github.gfx.static_gson.benchmark.model.Session;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes {@link Session} with {@link StaticGsonSerializer} against {@code Gson#toJson}, from several threads.
+ *
+ * Compare {@code gc.alloc.rate.norm} of the {@code gc} profiler, which the {@code jmh} task enables by default, for
+ * the allocation per operation.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Threads(4)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializerBenchmark {
+
+    private static final OutputStream NULL_OUTPUT_STREAM = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    private Gson gson;
+
+    private StaticGsonSerializer serializer;
+
+    private Session session;
+
+    @Setup
+    public void setUp() {
+        gson = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                .registerTypeAdapterFactory(new CollectionTypeAdapterFactory())
+                .registerTypeAdapterFactory(ArrayTypeAdapter.FACTORY)
+                .create();
+        serializer = new StaticGsonSerializer(gson);
+        session = new Session();
+    }
+
+    @Benchmark
+    public String gsonToString() {
+        return gson.toJson(session, Session.class);
+    }
+
+    @Benchmark
+    public String serializerToString() {
+        return serializer.toJson(session, Session.class);
+    }
+
+    @Benchmark
+    public void gsonToOutputStream() throws IOException {
+        Writer writer = new OutputStreamWriter(NULL_OUTPUT_STREAM, StandardCharsets.UTF_8);
+        gson.toJson(session, Session.class, writer);
+        writer.flush();
+    }
+
+    @Benchmark
+    public void serializerToOutputStream() throws IOException {
+        serializer.toJson(session, Session.class, NULL_OUTPUT_STREAM);
+    }
+}
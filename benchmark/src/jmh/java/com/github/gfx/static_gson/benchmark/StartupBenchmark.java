@@ -0,0 +1,51 @@
+package com.github.gfx.static_gson.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import com.github.gfx.static_gson.ArrayTypeAdapter;
+import com.github.gfx.static_gson.CollectionTypeAdapterFactory;
+import com.github.gfx.static_gson.StaticGsonTypeAdapterFactory;
+import com.github.gfx.static_gson.benchmark.model.StartupModel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time-to-first-parse: one {@code fromJson()} of a root model in a fresh JVM, including class loading and
+ * the creation of type adapters. The document only has {@link StartupModel#session}, as a first request rarely
+ * touches the whole model graph.
+ *
+ * Run it once with the default eager adapters and once with {@code -PlazyAdapters=true}, which regenerates the
+ * adapters with the {@code staticgson.lazyAdapters} processor option.
+ */
+@State(Scope.Benchmark)
+@Fork(20)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StartupBenchmark {
+
+    private static final String JSON = "{\"session\":{\"id\":41,\"title\":\"JSON\",\"speaker\":{\"id\":42,\"name\":\"Foo\"},"
+            + "\"assets\":[{\"label\":\"slide\",\"url\":\"http://example.com/slide\"}]}}";
+
+    @Benchmark
+    public StartupModel firstParse() {
+        Gson gson = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                .registerTypeAdapterFactory(new CollectionTypeAdapterFactory())
+                .registerTypeAdapterFactory(ArrayTypeAdapter.FACTORY)
+                .create();
+        return gson.fromJson(JSON, StartupModel.class);
+    }
+}
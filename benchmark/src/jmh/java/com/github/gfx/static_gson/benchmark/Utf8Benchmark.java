@@ -0,0 +1,80 @@
+package com.github.gfx.static_gson.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import com.github.gfx.static_gson.ArrayTypeAdapter;
+import com.github.gfx.static_gson.CollectionTypeAdapterFactory;
+import com.github.gfx.static_gson.StaticGsonTypeAdapterFactory;
+import com.github.gfx.static_gson.Utf8Json;
+import com.github.gfx.static_gson.benchmark.model.Session;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses {@link Session} from UTF-8 bytes with {@link Utf8Json}, against an {@link InputStreamReader} and against
+ * decoding the whole document to a {@code String} first.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class Utf8Benchmark {
+
+    private Gson gson;
+
+    private byte[] bytes;
+
+    private ByteBuffer directBuffer;
+
+    @Setup
+    public void setUp() {
+        gson = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                .registerTypeAdapterFactory(new CollectionTypeAdapterFactory())
+                .registerTypeAdapterFactory(ArrayTypeAdapter.FACTORY)
+                .create();
+
+        bytes = gson.toJson(new Session()).getBytes(StandardCharsets.UTF_8);
+
+        directBuffer = ByteBuffer.allocateDirect(bytes.length);
+        directBuffer.put(bytes).flip();
+    }
+
+    @Benchmark
+    public Session inputStreamReader() {
+        return gson.fromJson(new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8), Session.class);
+    }
+
+    @Benchmark
+    public Session string() {
+        return gson.fromJson(new String(bytes, StandardCharsets.UTF_8), Session.class);
+    }
+
+    @Benchmark
+    public Session utf8Bytes() {
+        return Utf8Json.fromJson(gson, bytes, Session.class);
+    }
+
+    @Benchmark
+    public Session utf8DirectBuffer() {
+        return Utf8Json.fromJson(gson, directBuffer, Session.class);
+    }
+}
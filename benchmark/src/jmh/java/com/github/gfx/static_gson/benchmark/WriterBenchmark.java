@@ -0,0 +1,66 @@
+package com.github.gfx.static_gson.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import com.github.gfx.static_gson.ArrayTypeAdapter;
+import com.github.gfx.static_gson.CollectionTypeAdapterFactory;
+import com.github.gfx.static_gson.StaticGsonTypeAdapterFactory;
+import com.github.gfx.static_gson.StaticGsonWriter;
+import com.github.gfx.static_gson.benchmark.model.Session;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes {@link Session} through Gson's {@code JsonWriter}, which escapes every field name on every call, and
+ * through {@link StaticGsonWriter}, which copies names pre-encoded by the annotation processor.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WriterBenchmark {
+
+    private Gson gson;
+
+    private Session session;
+
+    @Setup
+    public void setUp() {
+        gson = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                .registerTypeAdapterFactory(new CollectionTypeAdapterFactory())
+                .registerTypeAdapterFactory(ArrayTypeAdapter.FACTORY)
+                .create();
+        session = new Session();
+    }
+
+    @Benchmark
+    public String jsonWriter() {
+        return gson.toJson(session, Session.class);
+    }
+
+    @Benchmark
+    public String staticGsonWriter() throws IOException {
+        StringWriter out = new StringWriter();
+        StaticGsonWriter writer = new StaticGsonWriter(out);
+        gson.toJson(session, Session.class, writer);
+        writer.flush();
+        return out.toString();
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.gfx.static_gson.benchmark.model;
+
+import com.github.gfx.static_gson.annotation.JsonSerializable;
+
+/**
+ * Scalars only, so that the cost is dominated by name dispatch and number formatting
+ */
+@JsonSerializable
+public class FlatModel {
+
+    public int id;
+
+    public long createdAt;
+
+    public long updatedAt;
+
+    public double score;
+
+    public float ratio;
+
+    public boolean enabled;
+
+    public boolean archived;
+
+    public short priority;
+
+    public byte level;
+
+    public char grade;
+
+    public String name;
+
+    public String email;
+
+    public String url;
+
+    public String status;
+
+    public String description;
+
+    public Integer parentId;
+
+    public Long ownerId;
+
+    public Double weight;
+
+    public Boolean verified;
+
+    public String locale;
+
+    public static FlatModel create() {
+        FlatModel model = new FlatModel();
+        model.id = 12345;
+        model.createdAt = 1475200800000L;
+        model.updatedAt = 1475203200000L;
+        model.score = 98.625;
+        model.ratio = 0.5f;
+        model.enabled = true;
+        model.archived = false;
+        model.priority = 3;
+        model.level = 7;
+        model.grade = 'A';
+        model.name = "Foo Bar Baz";
+        model.email = "foo@example.com";
+        model.url = "http://example.com/users/12345";
+        model.status = "active";
+        model.description = "A flat model with twenty scalar fields";
+        model.parentId = 12344;
+        model.ownerId = 42L;
+        model.weight = 61.5;
+        model.verified = Boolean.TRUE;
+        model.locale = "en_US";
+        return model;
+    }
+}
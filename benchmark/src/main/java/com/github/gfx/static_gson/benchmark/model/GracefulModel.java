@@ -0,0 +1,35 @@
+package com.github.gfx.static_gson.benchmark.model;
+
+import com.github.gfx.static_gson.annotation.JsonSerializable;
+
+/**
+ * Graceful fields of every simple type, which log and keep their defaults when the payload has the wrong token
+ */
+@JsonSerializable
+public class GracefulModel {
+
+    public static final String[] FIELD_NAMES = {
+            "intValue", "longValue", "doubleValue", "booleanValue", "stringValue",
+            "boxedInt", "boxedLong", "boxedDouble", "boxedBoolean", "anotherString",
+    };
+
+    public int intValue;
+
+    public long longValue;
+
+    public double doubleValue;
+
+    public boolean booleanValue;
+
+    public String stringValue;
+
+    public Integer boxedInt;
+
+    public Long boxedLong;
+
+    public Double boxedDouble;
+
+    public Boolean boxedBoolean;
+
+    public String anotherString;
+}
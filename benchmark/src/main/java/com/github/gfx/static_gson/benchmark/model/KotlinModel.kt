@@ -0,0 +1,33 @@
+package com.github.gfx.static_gson.benchmark.model
+
+import com.github.gfx.static_gson.annotation.JsonSerializable
+
+/**
+ * A Kotlin data class with non-null properties, which generated adapters check after reading
+ */
+@JsonSerializable
+data class KotlinModel(
+        val id: Int,
+        val name: String,
+        val email: String?,
+        val score: Double,
+        val enabled: Boolean,
+        val tags: List<String>,
+        val owner: Owner) {
+
+    @JsonSerializable
+    data class Owner(val id: Long, val name: String)
+
+    companion object {
+
+        @JvmStatic
+        fun create() = KotlinModel(
+                id = 12345,
+                name = "Foo Bar Baz",
+                email = "foo@example.com",
+                score = 98.625,
+                enabled = true,
+                tags = listOf("kotlin", "json", "gson"),
+                owner = Owner(42, "Owner"))
+    }
+}
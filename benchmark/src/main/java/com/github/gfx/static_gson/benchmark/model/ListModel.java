@@ -0,0 +1,47 @@
+package com.github.gfx.static_gson.benchmark.model;
+
+import com.github.gfx.static_gson.annotation.JsonSerializable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collections of strings, numbers and models, so that the cost is dominated by the collection adapters
+ */
+@JsonSerializable
+public class ListModel {
+
+    public List<String> tags;
+
+    public List<Long> ids;
+
+    public List<Item> items;
+
+    public static ListModel create(int size) {
+        ListModel model = new ListModel();
+        model.tags = new ArrayList<>(size);
+        model.ids = new ArrayList<>(size);
+        model.items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            model.tags.add("tag-" + i);
+            model.ids.add(1000000L + i);
+            model.items.add(Item.create(i));
+        }
+        return model;
+    }
+
+    @JsonSerializable
+    public static class Item {
+
+        public int id;
+
+        public String label;
+
+        public static Item create(int id) {
+            Item item = new Item();
+            item.id = id;
+            item.label = "item-" + id;
+            return item;
+        }
+    }
+}
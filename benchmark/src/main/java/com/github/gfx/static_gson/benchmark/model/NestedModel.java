@@ -0,0 +1,24 @@
+package com.github.gfx.static_gson.benchmark.model;
+
+import com.github.gfx.static_gson.annotation.JsonSerializable;
+
+/**
+ * A chain of objects, so that the cost is dominated by entering and leaving nested adapters
+ */
+@JsonSerializable
+public class NestedModel {
+
+    public int depth;
+
+    public String name;
+
+    public NestedModel child;
+
+    public static NestedModel create(int depth) {
+        NestedModel model = new NestedModel();
+        model.depth = depth;
+        model.name = "node-" + depth;
+        model.child = depth > 1 ? create(depth - 1) : null;
+        return model;
+    }
+}
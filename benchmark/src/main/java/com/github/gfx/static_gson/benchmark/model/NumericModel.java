@@ -0,0 +1,75 @@
+package com.github.gfx.static_gson.benchmark.model;
+
+import com.github.gfx.static_gson.annotation.JsonSerializable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Numbers of every width in a list of rows, so that the cost is dominated by number parsing
+ */
+@JsonSerializable
+public class NumericModel {
+
+    public List<Row> rows;
+
+    public static NumericModel create(int size) {
+        NumericModel model = new NumericModel();
+        model.rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            model.rows.add(Row.create(i));
+        }
+        return model;
+    }
+
+    @JsonSerializable
+    public static class Row {
+
+        public int id;
+
+        public int count;
+
+        public int offset;
+
+        public short year;
+
+        public short port;
+
+        public byte flags;
+
+        public byte level;
+
+        public float ratio;
+
+        public float latitude;
+
+        public float longitude;
+
+        public long timestamp;
+
+        public double amount;
+
+        public Integer parentId;
+
+        public Float score;
+
+        public static Row create(int i) {
+            Row row = new Row();
+            row.id = 100000 + i;
+            row.count = i * 37;
+            row.offset = -i;
+            row.year = (short) (1970 + i % 100);
+            row.port = (short) (1024 + i % 1000);
+            row.flags = (byte) (i & 0x7f);
+            row.level = (byte) (i % 10);
+            row.ratio = i / 1000f;
+            row.latitude = 35.681236f;
+            row.longitude = 139.767125f;
+            row.timestamp = 1475200800000L + i;
+            row.amount = i * 1.25;
+            row.parentId = i > 0 ? 100000 + i - 1 : null;
+            row.score = i % 2 == 0 ? 0.5f : null;
+            return row;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.gfx.static_gson.benchmark.model;
+
+import com.github.gfx.static_gson.annotation.JsonSerializable;
+
+/**
+ * Private fields without accessor methods, which generated adapters read and write through {@link java.lang.reflect.Field}
+ */
+@JsonSerializable
+public class PrivateFieldModel {
+
+    private int id;
+
+    private long timestamp;
+
+    private double score;
+
+    private boolean enabled;
+
+    private String name;
+
+    private String url;
+
+    private PrivateFieldModel() {
+    }
+
+    public static PrivateFieldModel create() {
+        PrivateFieldModel model = new PrivateFieldModel();
+        model.id = 12345;
+        model.timestamp = 1475200800000L;
+        model.score = 98.625;
+        model.enabled = true;
+        model.name = "Foo Bar Baz";
+        model.url = "http://example.com/users/12345";
+        return model;
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.gfx.static_gson.benchmark.model;
+
+import com.github.gfx.static_gson.annotation.JsonSerializable;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The model of {@code example/MainActivity}, with fixed timestamps so that every run serializes the same document
+ */
+@JsonSerializable
+public class Session {
+
+    public int id = 41;
+
+    public String title = "The Basics of JSON processing libraries";
+
+    public String description
+            = "How to handle JSON in Android Applications with JSON processing libraries.\n"
+            + "There are a lot of JSON processing libraries: org.json, Gson, JsonPullParser, Moshi, LoganSquare\n"
+            + "Some uses annotation processing while the other uses reflection.\n"
+            + "If you want a high performance JSON processing library, you should find annotation processing ones,\n"
+            + "because blah blah blah blah...";
+
+    public Speaker speaker = new Speaker();
+
+    public long startTime = 1475200800000L;
+
+    public long endTime = 1475203200000L;
+
+    public Category category = new Category();
+
+    public Room room = new Room();
+
+    public String languageId = "en";
+
+    public List<Asset> assets = Arrays.asList(
+            Asset.create("slide", "http://example.com/slide"),
+            Asset.create("movie", "http://example.com/movie"),
+            Asset.create("share", "http://example.com/share")
+    );
+
+    public boolean checked = false;
+
+    @JsonSerializable
+    public static class Speaker {
+
+        public long id = 42;
+
+        public String name = "Foo Bar Baz";
+    }
+
+    @JsonSerializable
+    public static class Category {
+
+        public long id = 43;
+
+        public String name = "JSON";
+    }
+
+    @JsonSerializable
+    public static class Room {
+
+        public long id = 44;
+
+        public String name = "Room A";
+    }
+
+    @JsonSerializable
+    public static class Asset {
+
+        public String label;
+
+        public String url;
+
+        public static Asset create(String label, String url) {
+            Asset asset = new Asset();
+
+            asset.label = label;
+            asset.url = url;
+
+            return asset;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.gfx.static_gson.benchmark.model;
+
+import com.github.gfx.static_gson.annotation.JsonSerializable;
+
+import java.util.List;
+
+/**
+ * A root model that reaches every other model, like the response envelope of a service
+ */
+@JsonSerializable
+public class StartupModel {
+
+    public Session session;
+
+    public FlatModel flat;
+
+    public NestedModel nested;
+
+    public ListModel list;
+
+    public PrivateFieldModel privateField;
+
+    public KotlinModel kotlin;
+
+    public List<GracefulModel> graceful;
+}
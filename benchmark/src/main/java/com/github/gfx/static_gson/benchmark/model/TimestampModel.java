@@ -0,0 +1,58 @@
+package com.github.gfx.static_gson.benchmark.model;
+
+import com.github.gfx.static_gson.annotation.JsonSerializable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Events with {@code long} and {@code Long} timestamps, so that the cost is dominated by writing longs
+ */
+@JsonSerializable
+public class TimestampModel {
+
+    public List<Event> events;
+
+    public static TimestampModel create(int size) {
+        TimestampModel model = new TimestampModel();
+        model.events = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            model.events.add(Event.create(i));
+        }
+        return model;
+    }
+
+    @JsonSerializable
+    public static class Event {
+
+        public long id;
+
+        public long createdAt;
+
+        public long updatedAt;
+
+        public long startedAt;
+
+        public long finishedAt;
+
+        public Long acknowledgedAt;
+
+        public Long deletedAt;
+
+        public long durationNanos;
+
+        public static Event create(int i) {
+            long base = 1475200800000L + i * 1000L;
+            Event event = new Event();
+            event.id = 9000000000L + i;
+            event.createdAt = base;
+            event.updatedAt = base + 500;
+            event.startedAt = base + 10;
+            event.finishedAt = base + 990;
+            event.acknowledgedAt = i % 2 == 0 ? base + 995 : null;
+            event.deletedAt = null;
+            event.durationNanos = 980000000L + i;
+            return event;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.gfx.static_gson.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A value that failed to parse and was skipped, reported by {@link JfrMetrics}
+ */
+@Name(GracefulFailureEvent.NAME)
+@Label("StaticGson Graceful Failure")
+@Category("StaticGson")
+@Description("A value that failed to parse and was skipped")
+final class GracefulFailureEvent extends jdk.jfr.Event {
+
+    static final String NAME = "com.github.gfx.static_gson.GracefulFailure";
+
+    @Label("Model Type")
+    @Description("The model of the field, or the element type of the collection, array or map")
+    Class<?> modelType;
+
+    @Label("Field")
+    @Description("The name of the field, or null for an element")
+    String field;
+
+    @Label("Path")
+    @Description("The JSON path after the failed value")
+    String path;
+
+    @Label("Message")
+    String message;
+}
@@ -0,0 +1,140 @@
+package com.github.gfx.static_gson.jfr;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+
+import com.github.gfx.static_gson.StaticGsonSerializer;
+import com.github.gfx.static_gson.Utf8Json;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Parses and serializes JSON documents as {@link Gson}, {@link Utf8Json} and {@link StaticGsonSerializer} do, and
+ * emits a {@code com.github.gfx.static_gson.Parse} or {@code com.github.gfx.static_gson.Serialize} JFR event for each
+ * document with its model type and size. The stack trace of the event points at the caller, e.g. an endpoint.
+ *
+ * While the events are disabled, which is the default outside of recordings, they are never filled in or committed,
+ * and the JIT removes their allocation.
+ */
+public final class JfrJson {
+
+    private final Gson gson;
+
+    private final StaticGsonSerializer serializer;
+
+    public JfrJson(Gson gson) {
+        this.gson = gson;
+        this.serializer = new StaticGsonSerializer(gson);
+    }
+
+    public <T> T fromJson(String json, Class<T> classOfT) throws JsonSyntaxException {
+        return fromJson(json, (Type) classOfT);
+    }
+
+    public <T> T fromJson(String json, Type typeOfT) throws JsonSyntaxException {
+        ParseEvent event = new ParseEvent();
+        event.begin();
+        T value = gson.fromJson(json, typeOfT);
+        event.end();
+        if (event.shouldCommit()) {
+            event.modelType = typeOfT.getTypeName();
+            event.size = json != null ? json.length() : 0;
+            event.commit();
+        }
+        return value;
+    }
+
+    /**
+     * @see Utf8Json#fromJson(Gson, byte[], Class)
+     */
+    public <T> T fromJson(byte[] json, Class<T> classOfT) throws JsonSyntaxException, JsonIOException {
+        return fromJson(json, (Type) classOfT);
+    }
+
+    /**
+     * @see Utf8Json#fromJson(Gson, byte[], Type)
+     */
+    public <T> T fromJson(byte[] json, Type typeOfT) throws JsonSyntaxException, JsonIOException {
+        ParseEvent event = new ParseEvent();
+        event.begin();
+        T value = Utf8Json.fromJson(gson, json, typeOfT);
+        event.end();
+        if (event.shouldCommit()) {
+            event.modelType = typeOfT.getTypeName();
+            event.size = json.length;
+            event.commit();
+        }
+        return value;
+    }
+
+    /**
+     * @see StaticGsonSerializer#toJson(Object)
+     */
+    public String toJson(Object value) throws JsonIOException {
+        return toJson(value, value != null ? value.getClass() : Object.class);
+    }
+
+    /**
+     * @see StaticGsonSerializer#toJson(Object, Type)
+     */
+    public String toJson(Object value, Type type) throws JsonIOException {
+        SerializeEvent event = new SerializeEvent();
+        event.begin();
+        String json = serializer.toJson(value, type);
+        event.end();
+        if (event.shouldCommit()) {
+            event.modelType = type.getTypeName();
+            event.size = json.length();
+            event.commit();
+        }
+        return json;
+    }
+
+    /**
+     * Writes {@code value} to {@code out} in UTF-8. {@code out} is neither flushed nor closed.
+     *
+     * @see StaticGsonSerializer#toJson(Object, Type, OutputStream)
+     */
+    public void toJson(Object value, Type type, OutputStream out) throws IOException {
+        SerializeEvent event = new SerializeEvent();
+        if (!event.isEnabled()) {
+            serializer.toJson(value, type, out);
+            return;
+        }
+
+        CountingOutputStream counter = new CountingOutputStream(out);
+        event.begin();
+        serializer.toJson(value, type, counter);
+        event.end();
+        if (event.shouldCommit()) {
+            event.modelType = type.getTypeName();
+            event.size = counter.count;
+            event.commit();
+        }
+    }
+
+    static final class CountingOutputStream extends FilterOutputStream {
+
+        long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.gfx.static_gson.jfr;
+
+import com.google.gson.stream.JsonReader;
+
+import com.github.gfx.static_gson.Metrics;
+
+/**
+ * A {@link Metrics.Delegate} that emits a {@code com.github.gfx.static_gson.GracefulFailure} JFR event for each value
+ * that fails to parse and is skipped. The JSON path is built only while the event is enabled in a recording.
+ *
+ * Reads and writes are not timed here; {@link JfrJson} emits an event per document instead.
+ */
+public class JfrMetrics implements Metrics.Delegate {
+
+    /**
+     * Installs a {@link JfrMetrics} without timing type adapters. Call this before creating {@code Gson} instances.
+     */
+    public static void install() {
+        Metrics.setDelegate(new JfrMetrics(), false);
+    }
+
+    @Override
+    public void onRead(Class<?> type, long elapsedNanos) {
+    }
+
+    @Override
+    public void onWrite(Class<?> type, long elapsedNanos) {
+    }
+
+    @Override
+    public void onFailure(Class<?> type, String field, JsonReader reader, Exception ex) {
+        GracefulFailureEvent event = new GracefulFailureEvent();
+        if (event.isEnabled()) {
+            event.modelType = type;
+            event.field = field;
+            event.path = reader.getPath();
+            event.message = ex.getMessage();
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onUnknownField(Class<?> type, String name) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.gfx.static_gson.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JSON document parsed by {@link JfrJson}
+ */
+@Name(ParseEvent.NAME)
+@Label("StaticGson Parse")
+@Category("StaticGson")
+@Description("Parses a JSON document into a model")
+final class ParseEvent extends jdk.jfr.Event {
+
+    static final String NAME = "com.github.gfx.static_gson.Parse";
+
+    @Label("Model Type")
+    String modelType;
+
+    @Label("Size")
+    @Description("The size of the document in bytes, or in chars if it is a String")
+    @DataAmount
+    long size;
+}
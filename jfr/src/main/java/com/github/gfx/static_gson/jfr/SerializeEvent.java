@@ -0,0 +1,27 @@
+package com.github.gfx.static_gson.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JSON document serialized by {@link JfrJson}
+ */
+@Name(SerializeEvent.NAME)
+@Label("StaticGson Serialize")
+@Category("StaticGson")
+@Description("Serializes a model into a JSON document")
+final class SerializeEvent extends jdk.jfr.Event {
+
+    static final String NAME = "com.github.gfx.static_gson.Serialize";
+
+    @Label("Model Type")
+    String modelType;
+
+    @Label("Size")
+    @Description("The size of the document in bytes, or in chars if it is a String")
+    @DataAmount
+    long size;
+}
@@ -0,0 +1,113 @@
+package com.github.gfx.static_gson.jfr;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import com.github.gfx.static_gson.Metrics;
+import com.github.gfx.static_gson.StaticGsonTypeAdapterFactory;
+import com.github.gfx.static_gson.jfr.model.Order;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+/**
+ * @see JfrJson
+ * @see JfrMetrics
+ */
+public class JfrJsonTest {
+
+    JfrJson json;
+
+    @Before
+    public void setUp() throws Exception {
+        JfrMetrics.install();
+
+        Gson gson = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                .create();
+        json = new JfrJson(gson);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        Metrics.setDelegate(null);
+    }
+
+    @Test
+    public void emitParseAndSerializeEvents() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            Order order = json.fromJson("{\"id\":\"a\",\"quantity\":1}", Order.class);
+            json.fromJson("{\"id\":\"é\"}".getBytes(StandardCharsets.UTF_8), Order.class);
+            json.toJson(order);
+            json.toJson(order, Order.class, new ByteArrayOutputStream());
+        });
+
+        assertThat(events.size(), is(4));
+        assertThat(events.get(0).getEventType().getName(), is(ParseEvent.NAME));
+        assertThat(events.get(0).getString("modelType"), is(Order.class.getName()));
+        assertThat(events.get(0).getLong("size"), is(23L));
+        assertThat(events.get(1).getLong("size"), is(11L));
+        assertThat(events.get(2).getEventType().getName(), is(SerializeEvent.NAME));
+        assertThat(events.get(2).getLong("size"), is(23L));
+        assertThat(events.get(3).getLong("size"), is(23L));
+    }
+
+    @Test
+    public void emitGracefulFailureEvents() throws Exception {
+        List<RecordedEvent> events = record(() -> json.fromJson("{\"id\":\"a\",\"quantity\":{}}", Order.class));
+
+        RecordedEvent failure = events.get(0);
+        assertThat(failure.getEventType().getName(), is(GracefulFailureEvent.NAME));
+        assertThat(failure.<RecordedClass>getValue("modelType").getName(), is(Order.class.getName()));
+        assertThat(failure.getString("field"), is("quantity"));
+        assertThat(failure.getString("path"), is("$.quantity"));
+        assertThat(events.get(1).getEventType().getName(), is(ParseEvent.NAME));
+    }
+
+    @Test
+    public void doNotEmitWithoutRecording() throws Exception {
+        Order order = json.fromJson("{\"id\":\"a\",\"quantity\":{}}", Order.class);
+
+        assertThat(order.id, is("a"));
+        assertThat(json.toJson(order), is("{\"id\":\"a\",\"quantity\":0}"));
+    }
+
+    static List<RecordedEvent> record(Action action) throws Exception {
+        Path file = Files.createTempFile("static-gson", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ParseEvent.NAME);
+            recording.enable(SerializeEvent.NAME);
+            recording.enable(GracefulFailureEvent.NAME);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = new ArrayList<>(RecordingFile.readAllEvents(file));
+            events.sort((a, b) -> a.getEndTime().compareTo(b.getEndTime()));
+            return events;
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    interface Action {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.gfx.static_gson.jfr.model;
+
+import com.github.gfx.static_gson.annotation.JsonSerializable;
+
+@JsonSerializable
+public class Order {
+
+    public String id;
+
+    public int quantity;
+}
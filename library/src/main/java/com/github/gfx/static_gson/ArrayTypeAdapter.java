@@ -5,6 +5,7 @@ import com.google.gson.Gson;
 import com.google.gson.TypeAdapter;
 import com.google.gson.TypeAdapterFactory;
 import com.google.gson.internal.$Gson$Types;
+import com.google.gson.internal.bind.TypeAdapters;
 import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
@@ -14,18 +15,23 @@ import java.io.IOException;
 import java.lang.reflect.Array;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
- * Adapt an array of objects.
+ * Adapt an array of objects, or an array of {@code int}, {@code long}, {@code double} or {@code boolean}.
  */
 public final class ArrayTypeAdapter<E> extends TypeAdapter<Object> {
     public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
         @SuppressWarnings({"unchecked", "rawtypes"})
         @Override
         public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+            TypeAdapter<?> primitiveArrayAdapter = createPrimitiveArrayAdapter(gson, typeToken.getRawType());
+            if (primitiveArrayAdapter != null) {
+                return (TypeAdapter<T>) primitiveArrayAdapter;
+            }
+
             Type type = typeToken.getType();
+
             if (!(type instanceof GenericArrayType || type instanceof Class && ((Class<?>) type).isArray())) {
                 return null;
             }
@@ -35,7 +41,7 @@ public final class ArrayTypeAdapter<E> extends TypeAdapter<Object> {
             // Only use this specialised collection adapter for @JsonSerializable StaticGson types.
             // For other types we can't be sure the reader will be left in a position to safely read the next element in the array.
             // The reader could be left anywhere the exception is thrown
-            if (!(componentType instanceof Class) || !StaticGsonTypeAdapterFactory.isStaticGsonType(((Class) componentType).getName())) {
+            if (!(componentType instanceof Class) || !StaticGsonTypeAdapterFactory.isStaticGsonType((Class<?>) componentType)) {
                 return null;
             }
 
@@ -45,6 +51,29 @@ public final class ArrayTypeAdapter<E> extends TypeAdapter<Object> {
         }
     };
 
+    /**
+     * @return An adapter for {@code int[]}, {@code long[]}, {@code double[]} or {@code boolean[]}, or {@code null} if
+     * {@code rawType} is not one of them or the element type has a user-defined adapter
+     */
+    private static TypeAdapter<?> createPrimitiveArrayAdapter(Gson gson, Class<?> rawType) {
+        if (rawType == int[].class && (TypeAdapter<?>) gson.getAdapter(int.class) == TypeAdapters.INTEGER) {
+            return new IntArrayAdapter();
+        } else if (rawType == long[].class && LongValueWriter.isBuiltIn(gson.getAdapter(long.class))) {
+            return new LongArrayAdapter(LongValueWriter.of(gson));
+        } else if (rawType == double[].class && LongValueWriter.isBuiltIn(gson.getAdapter(double.class))) {
+            return new DoubleArrayAdapter(gson.getAdapter(double.class));
+        } else if (rawType == boolean[].class && (TypeAdapter<?>) gson.getAdapter(boolean.class) == TypeAdapters.BOOLEAN) {
+            return new BooleanArrayAdapter();
+        }
+        return null;
+    }
+
+    private static final int INITIAL_CAPACITY = 10;
+
+    private static int grow(int capacity) {
+        return capacity + (capacity >> 1) + 1;
+    }
+
     private final Class<E> componentType;
     private final TypeAdapter<E> componentTypeAdapter;
 
@@ -60,15 +89,21 @@ public final class ArrayTypeAdapter<E> extends TypeAdapter<Object> {
             return null;
         }
 
-        List<E> list = new ArrayList<E>();
+        @SuppressWarnings("unchecked")
+        E[] array = (E[]) Array.newInstance(componentType, INITIAL_CAPACITY);
+        int size = 0;
         in.beginArray();
         while (in.hasNext()) {
             try {
                 E instance = componentTypeAdapter.read(in);
-                list.add(instance);
+                if (size == array.length) {
+                    array = Arrays.copyOf(array, grow(size));
+                }
+                array[size++] = instance;
             } catch (JsonUngracefulException ex) {
                 throw ex;
             } catch (Exception ex) {
+                Metrics.reportFailure(componentType, null, in, ex);
                 Logger.log(ex);
                 if (!(ex instanceof JsonGracefulException)) {
                     in.skipValue();
@@ -76,11 +111,7 @@ public final class ArrayTypeAdapter<E> extends TypeAdapter<Object> {
             }
         }
         in.endArray();
-        Object array = Array.newInstance(componentType, list.size());
-        for (int i = 0; i < list.size(); i++) {
-            Array.set(array, i, list.get(i));
-        }
-        return array;
+        return size == array.length ? array : Arrays.copyOf(array, size);
     }
 
     @SuppressWarnings("unchecked")
@@ -92,10 +123,233 @@ public final class ArrayTypeAdapter<E> extends TypeAdapter<Object> {
         }
 
         out.beginArray();
-        for (int i = 0, length = Array.getLength(array); i < length; i++) {
-            E value = (E) Array.get(array, i);
-            componentTypeAdapter.write(out, value);
+        for (Object value : (Object[]) array) {
+            componentTypeAdapter.write(out, (E) value);
         }
         out.endArray();
     }
+
+    /**
+     * Reads and writes {@code int[]} without boxing. Elements that fail to parse are logged and dropped.
+     */
+    private static final class IntArrayAdapter extends TypeAdapter<int[]> {
+
+        @Override
+        public int[] read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            int[] array = new int[INITIAL_CAPACITY];
+            int size = 0;
+            in.beginArray();
+            while (in.hasNext()) {
+                try {
+                    ParserHelper.checkStringOrNumber(in, false);
+                    int value = in.nextInt();
+                    if (size == array.length) {
+                        array = Arrays.copyOf(array, grow(size));
+                    }
+                    array[size++] = value;
+                } catch (JsonUngracefulException ex) {
+                    throw ex;
+                } catch (Exception ex) {
+                    Metrics.reportFailure(int.class, null, in, ex);
+                    Logger.log(ex);
+                    in.skipValue();
+                }
+            }
+            in.endArray();
+            return size == array.length ? array : Arrays.copyOf(array, size);
+        }
+
+        @Override
+        public void write(JsonWriter out, int[] array) throws IOException {
+            if (array == null) {
+                out.nullValue();
+                return;
+            }
+
+            out.beginArray();
+            for (int value : array) {
+                out.value(value);
+            }
+            out.endArray();
+        }
+    }
+
+    /**
+     * Reads and writes {@code long[]} without boxing. Elements that fail to parse are logged and dropped.
+     */
+    private static final class LongArrayAdapter extends TypeAdapter<long[]> {
+
+        private final LongValueWriter valueWriter;
+
+        LongArrayAdapter(LongValueWriter valueWriter) {
+            this.valueWriter = valueWriter;
+        }
+
+        @Override
+        public long[] read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            long[] array = new long[INITIAL_CAPACITY];
+            int size = 0;
+            in.beginArray();
+            while (in.hasNext()) {
+                try {
+                    ParserHelper.checkStringOrNumber(in, false);
+                    long value = in.nextLong();
+                    if (size == array.length) {
+                        array = Arrays.copyOf(array, grow(size));
+                    }
+                    array[size++] = value;
+                } catch (JsonUngracefulException ex) {
+                    throw ex;
+                } catch (Exception ex) {
+                    Metrics.reportFailure(long.class, null, in, ex);
+                    Logger.log(ex);
+                    in.skipValue();
+                }
+            }
+            in.endArray();
+            return size == array.length ? array : Arrays.copyOf(array, size);
+        }
+
+        @Override
+        public void write(JsonWriter out, long[] array) throws IOException {
+            if (array == null) {
+                out.nullValue();
+                return;
+            }
+
+            out.beginArray();
+            for (long value : array) {
+                valueWriter.write(out, value);
+            }
+            out.endArray();
+        }
+    }
+
+    /**
+     * Reads and writes {@code double[]} without boxing. Elements that fail to parse are logged and dropped.
+     */
+    private static final class DoubleArrayAdapter extends TypeAdapter<double[]> {
+
+        /**
+         * Gson's adapter, which decides whether NaN and infinities may be written
+         */
+        private final TypeAdapter<Double> specialValueAdapter;
+
+        DoubleArrayAdapter(TypeAdapter<Double> specialValueAdapter) {
+            this.specialValueAdapter = specialValueAdapter;
+        }
+
+        @Override
+        public double[] read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            double[] array = new double[INITIAL_CAPACITY];
+            int size = 0;
+            in.beginArray();
+            while (in.hasNext()) {
+                try {
+                    ParserHelper.checkStringOrNumber(in, false);
+                    double value = in.nextDouble();
+                    if (size == array.length) {
+                        array = Arrays.copyOf(array, grow(size));
+                    }
+                    array[size++] = value;
+                } catch (JsonUngracefulException ex) {
+                    throw ex;
+                } catch (Exception ex) {
+                    Metrics.reportFailure(double.class, null, in, ex);
+                    Logger.log(ex);
+                    in.skipValue();
+                }
+            }
+            in.endArray();
+            return size == array.length ? array : Arrays.copyOf(array, size);
+        }
+
+        @Override
+        public void write(JsonWriter out, double[] array) throws IOException {
+            if (array == null) {
+                out.nullValue();
+                return;
+            }
+
+            out.beginArray();
+            for (double value : array) {
+                if (Double.isNaN(value) || Double.isInfinite(value)) {
+                    specialValueAdapter.write(out, value);
+                } else {
+                    out.value(value);
+                }
+            }
+            out.endArray();
+        }
+    }
+
+    /**
+     * Reads and writes {@code boolean[]}, accepting the same relaxed values as boolean fields of models. Elements
+     * that fail to parse are logged and dropped.
+     */
+    private static final class BooleanArrayAdapter extends TypeAdapter<boolean[]> {
+
+        @Override
+        public boolean[] read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            boolean[] array = new boolean[INITIAL_CAPACITY];
+            int size = 0;
+            in.beginArray();
+            while (in.hasNext()) {
+                JsonToken token = in.peek();
+                try {
+                    boolean value = ParserHelper.nextRelaxedBoolean(in, false, true, null);
+                    if (size == array.length) {
+                        array = Arrays.copyOf(array, grow(size));
+                    }
+                    array[size++] = value;
+                } catch (JsonUngracefulException ex) {
+                    throw ex;
+                } catch (Exception ex) {
+                    Metrics.reportFailure(boolean.class, null, in, ex);
+                    Logger.log(ex);
+                    // a string or an integer other than a boolean is consumed before it fails
+                    if (!(ex instanceof JsonGracefulException && (token == JsonToken.STRING
+                            || token == JsonToken.NUMBER))) {
+                        in.skipValue();
+                    }
+                }
+            }
+            in.endArray();
+            return size == array.length ? array : Arrays.copyOf(array, size);
+        }
+
+        @Override
+        public void write(JsonWriter out, boolean[] array) throws IOException {
+            if (array == null) {
+                out.nullValue();
+                return;
+            }
+
+            out.beginArray();
+            for (boolean value : array) {
+                out.value(value);
+            }
+            out.endArray();
+        }
+    }
 }
@@ -0,0 +1,80 @@
+package com.github.gfx.static_gson;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.internal.ObjectConstructor;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@link StaticGsonIndex} for packages without a generated index, such as the ones processed with
+ * {@code staticgson.isolating}, which finds type adapters by their class names. Each type is looked up once.
+ *
+ * It also backs a generated index, which lacks the models of the same package in other modules, as only one
+ * index class of a name is loaded, and the models generated in later processing rounds.
+ *
+ * An instance serves one package of one class loader, so it holds only the classes of that class loader.
+ */
+class ClassNameIndex implements StaticGsonIndex {
+
+    private final StaticGsonIndex generatedIndex;
+
+    private final ConcurrentMap<Class<?>, Boolean> types = new ConcurrentHashMap<>();
+
+    ClassNameIndex() {
+        this(null);
+    }
+
+    /**
+     * @param generatedIndex The generated index of the package, which is asked first, or {@code null}
+     */
+    ClassNameIndex(StaticGsonIndex generatedIndex) {
+        this.generatedIndex = generatedIndex;
+    }
+
+    @Override
+    public boolean contains(Class<?> type) {
+        if (generatedIndex != null && generatedIndex.contains(type)) {
+            return true;
+        }
+        Boolean found = types.get(type);
+        if (found == null) {
+            found = findTypeAdapterClass(type) != null;
+            types.put(type, found);
+        }
+        return found;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken, ObjectConstructor<T> objectConstructor) {
+        if (generatedIndex != null && generatedIndex.contains(typeToken.getRawType())) {
+            return generatedIndex.create(gson, typeToken, objectConstructor);
+        }
+        Class<?> typeAdapterClass = findTypeAdapterClass(typeToken.getRawType());
+        if (typeAdapterClass == null) {
+            return null;
+        }
+        try {
+            Constructor<?> constructor = typeAdapterClass.getConstructor(Gson.class, TypeToken.class,
+                    ObjectConstructor.class);
+            return (TypeAdapter<T>) constructor.newInstance(gson, typeToken, objectConstructor);
+        } catch (NoSuchMethodException | IllegalAccessException | InstantiationException | InvocationTargetException
+                | ClassCastException e) {
+            throw new RuntimeException("Can't create an instance of " + typeAdapterClass.getName(), e);
+        }
+    }
+
+    private static Class<?> findTypeAdapterClass(Class<?> type) {
+        String name = StaticGsonTypeAdapterFactory.getTypeAdapterFactoryName(type.getName());
+        try {
+            return Class.forName(name, true, type.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+}
@@ -17,6 +17,7 @@ import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -44,7 +45,7 @@ public final class CollectionTypeAdapterFactory implements TypeAdapterFactory {
         // Only use this specialised collection adapter for @JsonSerializable StaticGson types.
         // For other types we can't be sure the reader will be left in a position to safely read the next element in the array.
         // The reader could be left anywhere the exception is thrown
-        if (!(elementType instanceof Class) || !StaticGsonTypeAdapterFactory.isStaticGsonType(((Class) elementType).getName())) {
+        if (!(elementType instanceof Class) || !StaticGsonTypeAdapterFactory.isStaticGsonType((Class<?>) elementType)) {
             return null;
         }
 
@@ -56,15 +57,22 @@ public final class CollectionTypeAdapterFactory implements TypeAdapterFactory {
         return result;
     }
 
-    private static final class Adapter<E> extends TypeAdapter<Collection<E>> {
+    private static final class Adapter<E> extends TypeAdapter<Collection<E>> implements ReusableTypeAdapter<Collection<E>> {
+        private final Class<?> elementType;
         private final TypeAdapter<E> elementTypeAdapter;
         private final ObjectConstructor<? extends Collection<E>> constructor;
+        /**
+         * The class of collections {@link #constructor} creates, which are the only ones {@link #readInto} reuses
+         */
+        private final Class<?> collectionClass;
 
         public Adapter(Gson context, Type elementType,
                        TypeAdapter<E> elementTypeAdapter,
                        ObjectConstructor<? extends Collection<E>> constructor) {
+            this.elementType = (Class<?>) elementType;
             this.elementTypeAdapter = elementTypeAdapter;
             this.constructor = constructor;
+            this.collectionClass = constructor.construct().getClass();
         }
 
         @Override
@@ -83,6 +91,7 @@ public final class CollectionTypeAdapterFactory implements TypeAdapterFactory {
                 } catch (JsonUngracefulException ex) {
                     throw ex;
                 } catch (Exception ex) {
+                    Metrics.reportFailure(elementType, null, in, ex);
                     Logger.log(ex);
                     if (!(ex instanceof JsonGracefulException)) {
                         in.skipValue();
@@ -93,6 +102,49 @@ public final class CollectionTypeAdapterFactory implements TypeAdapterFactory {
             return collection;
         }
 
+        /**
+         * Reads into {@code target} if it is a list of the same class {@link #read} creates, so that fixed-size or
+         * unmodifiable lists are never modified. Its elements are read into in order.
+         */
+        @Override
+        public Collection<E> readInto(JsonReader in, Collection<E> target) throws IOException {
+            if (target.getClass() != collectionClass || !(target instanceof List)) {
+                return read(in);
+            }
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            List<E> list = (List<E>) target;
+            int size = 0;
+            in.beginArray();
+            while (in.hasNext()) {
+                try {
+                    E element = ParserHelper.readInto(elementTypeAdapter, in, size < list.size() ? list.get(size) : null);
+                    if (size < list.size()) {
+                        list.set(size, element);
+                    } else {
+                        list.add(element);
+                    }
+                    size++;
+                } catch (JsonUngracefulException ex) {
+                    throw ex;
+                } catch (Exception ex) {
+                    Metrics.reportFailure(elementType, null, in, ex);
+                    Logger.log(ex);
+                    if (!(ex instanceof JsonGracefulException)) {
+                        in.skipValue();
+                    }
+                }
+            }
+            in.endArray();
+            while (list.size() > size) {
+                list.remove(list.size() - 1);
+            }
+            return list;
+        }
+
         @Override
         public void write(JsonWriter out, Collection<E> collection) throws IOException {
             if (collection == null) {
@@ -0,0 +1,129 @@
+package com.github.gfx.static_gson;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the elements of a JSON array one by one, so that memory use doesn't depend on the length of the array.
+ *
+ * Elements of {@link com.github.gfx.static_gson.annotation.JsonSerializable} types fail gracefully like the items of
+ * {@link CollectionTypeAdapterFactory}: an element that fails to parse is logged and skipped. Failures of other types
+ * are thrown, as the reader may be left anywhere in the element.
+ *
+ * <pre>{@code
+ * try (JsonArrayIterator<User> users = new JsonArrayIterator<>(gson, User.class, new JsonReader(reader))) {
+ *     while (users.hasNext()) {
+ *         process(users.next());
+ *     }
+ * }
+ * }</pre>
+ */
+public final class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+
+    private final JsonReader reader;
+
+    private final TypeAdapter<T> adapter;
+
+    private final boolean graceful;
+
+    private boolean started;
+
+    private boolean finished;
+
+    private boolean hasBufferedElement;
+
+    private T bufferedElement;
+
+    /**
+     * @param reader A reader positioned at a JSON array, or at {@code null} for no elements
+     */
+    public JsonArrayIterator(Gson gson, TypeToken<T> elementType, JsonReader reader) {
+        this.reader = reader;
+        this.adapter = gson.getAdapter(elementType);
+        this.graceful = StaticGsonTypeAdapterFactory.isStaticGsonType(elementType.getRawType());
+    }
+
+    public JsonArrayIterator(Gson gson, Class<T> elementType, JsonReader reader) {
+        this(gson, TypeToken.get(elementType), reader);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (hasBufferedElement) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        try {
+            if (!started) {
+                started = true;
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.nextNull();
+                    finished = true;
+                    return false;
+                }
+                reader.beginArray();
+            }
+            while (reader.hasNext()) {
+                try {
+                    bufferedElement = adapter.read(reader);
+                    hasBufferedElement = true;
+                    return true;
+                } catch (JsonUngracefulException ex) {
+                    throw ex;
+                } catch (Exception ex) {
+                    if (!graceful) {
+                        throw ex;
+                    }
+                    Logger.log(ex);
+                    if (!(ex instanceof JsonGracefulException)) {
+                        reader.skipValue();
+                    }
+                }
+            }
+            reader.endArray();
+            finished = true;
+            return false;
+        } catch (MalformedJsonException e) {
+            throw new JsonSyntaxException(e);
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T element = bufferedElement;
+        bufferedElement = null;
+        hasBufferedElement = false;
+        return element;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Closes the underlying reader.
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -3,6 +3,13 @@ package com.github.gfx.static_gson;
 import com.google.gson.JsonParseException;
 
 public class JsonGracefulException extends JsonParseException {
+
+    private String format;
+
+    private Object[] args;
+
+    private String message;
+
     public JsonGracefulException(String msg) {
         super(msg);
     }
@@ -11,7 +18,43 @@ public class JsonGracefulException extends JsonParseException {
         super(msg, cause);
     }
 
+    /**
+     * Unlike {@link Throwable#Throwable(Throwable)}, this doesn't build the message from {@code cause} until
+     * {@link #getMessage()} is called.
+     */
     public JsonGracefulException(Throwable cause) {
-        super(cause);
+        super(null, cause);
+    }
+
+    /**
+     * @return An exception whose message is built by {@link String#format(String, Object...)} on the first call to
+     * {@link #getMessage()}, which never happens when nobody logs it
+     */
+    public static JsonGracefulException format(String format, Object... args) {
+        JsonGracefulException ex = new JsonGracefulException((String) null);
+        ex.format = format;
+        ex.args = args;
+        return ex;
+    }
+
+    @Override
+    public String getMessage() {
+        if (format == null) {
+            String msg = super.getMessage();
+            Throwable cause = getCause();
+            return msg == null && cause != null ? cause.toString() : msg;
+        }
+        if (message == null) {
+            message = String.format(format, args);
+        }
+        return message;
+    }
+
+    /**
+     * Skips capturing the stack trace unless {@link Logger#isStackTraceEnabled()}.
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return Logger.isStackTraceEnabled() ? super.fillInStackTrace() : this;
     }
 }
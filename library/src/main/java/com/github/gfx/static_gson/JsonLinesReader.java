@@ -0,0 +1,233 @@
+package com.github.gfx.static_gson;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads <a href="http://ndjson.org/">newline delimited JSON</a>, one value per line, with a single {@link JsonReader}.
+ *
+ * A line that fails to parse, including malformed JSON and anything but whitespace after its value, is logged as a
+ * {@link JsonGracefulException} that has the line number in its message, and skipped. Blank lines are ignored.
+ *
+ * @see JsonLinesWriter
+ */
+public final class JsonLinesReader<T> implements Iterator<T>, Closeable {
+
+    private final Gson gson;
+
+    private final TypeAdapter<T> adapter;
+
+    private final LineReader lines;
+
+    private JsonReader reader;
+
+    private boolean finished;
+
+    private boolean hasBufferedElement;
+
+    private T bufferedElement;
+
+    public JsonLinesReader(Gson gson, TypeToken<T> type, Reader in) {
+        this.gson = gson;
+        this.adapter = gson.getAdapter(type);
+        this.lines = new LineReader(in);
+        this.reader = newJsonReader();
+    }
+
+    public JsonLinesReader(Gson gson, Class<T> type, Reader in) {
+        this(gson, TypeToken.get(type), in);
+    }
+
+    private JsonReader newJsonReader() {
+        JsonReader reader = gson.newJsonReader(lines);
+        // to read a top-level value per line
+        reader.setLenient(true);
+        return reader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (hasBufferedElement) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        try {
+            while (lines.nextLine()) {
+                int lineNumber = lines.lineNumber;
+                try {
+                    T element = adapter.read(reader);
+                    // the rest of the line stays in the buffer of the reader, so it must be checked here
+                    JsonToken token = reader.peek();
+                    if (token != JsonToken.END_DOCUMENT) {
+                        throw JsonGracefulException.format("Expected the end of the line but was %s", token);
+                    }
+                    // clears the end of the line that peek() keeps returning, so that the reader goes on with the next
+                    reader.skipValue();
+                    bufferedElement = element;
+                    hasBufferedElement = true;
+                    return true;
+                } catch (JsonUngracefulException ex) {
+                    throw ex;
+                } catch (Exception ex) {
+                    if (ex instanceof IOException && !(ex instanceof MalformedJsonException || ex instanceof EOFException)) {
+                        throw (IOException) ex; // from the underlying reader
+                    }
+                    JsonGracefulException lineException = JsonGracefulException.format("Skipped line %d", lineNumber);
+                    lineException.initCause(ex);
+                    Logger.log(lineException);
+
+                    // the reader may be anywhere in the line; the rest of it is dropped by the next nextLine()
+                    reader = newJsonReader();
+                }
+            }
+            finished = true;
+            return false;
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T element = bufferedElement;
+        bufferedElement = null;
+        hasBufferedElement = false;
+        return element;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Closes the underlying reader.
+     */
+    @Override
+    public void close() throws IOException {
+        lines.close();
+    }
+
+    /**
+     * Hands the underlying characters to {@link JsonReader} one line at a time: it reports the end of input at the end
+     * of each line until {@link #nextLine()}, so that a broken line never consumes the next one.
+     */
+    static final class LineReader extends Reader {
+
+        private final Reader in;
+
+        private final char[] buffer = new char[8192];
+
+        private int pos;
+
+        private int limit;
+
+        /**
+         * {@code true} if the end of the current line has been handed out
+         */
+        private boolean lineEnded = true;
+
+        /**
+         * The 1-based number of the line at {@link #pos}
+         */
+        int lineNumber = 1;
+
+        LineReader(Reader in) {
+            this.in = in;
+        }
+
+        private boolean fillBuffer() throws IOException {
+            pos = 0;
+            limit = 0;
+            int count;
+            do {
+                count = in.read(buffer, 0, buffer.length);
+            } while (count == 0);
+            if (count == -1) {
+                return false;
+            }
+            limit = count;
+            return true;
+        }
+
+        /**
+         * Drops the rest of the current line and skips blank lines.
+         *
+         * @return {@code false} at the end of input
+         */
+        boolean nextLine() throws IOException {
+            while (!lineEnded) {
+                if (pos == limit && !fillBuffer()) {
+                    return false;
+                }
+                char c = buffer[pos++];
+                if (c == '\n') {
+                    lineNumber++;
+                    lineEnded = true;
+                }
+            }
+            while (true) {
+                if (pos == limit && !fillBuffer()) {
+                    return false;
+                }
+                char c = buffer[pos];
+                if (c == '\n') {
+                    lineNumber++;
+                } else if (c != ' ' && c != '\t' && c != '\r') {
+                    lineEnded = false;
+                    return true;
+                }
+                pos++;
+            }
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            if (lineEnded) {
+                return -1;
+            }
+            if (len == 0) {
+                return 0;
+            }
+            if (pos == limit && !fillBuffer()) {
+                lineEnded = true;
+                return -1;
+            }
+            int start = pos;
+            int end = Math.min(limit, pos + len);
+            for (int i = start; i < end; i++) {
+                if (buffer[i] == '\n') {
+                    end = i + 1;
+                    lineNumber++;
+                    lineEnded = true;
+                    break;
+                }
+            }
+            System.arraycopy(buffer, start, cbuf, off, end - start);
+            pos = end;
+            return end - start;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
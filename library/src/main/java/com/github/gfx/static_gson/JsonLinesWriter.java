@@ -0,0 +1,59 @@
+package com.github.gfx.static_gson;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes <a href="http://ndjson.org/">newline delimited JSON</a>, one value per line, with a single
+ * {@link JsonWriter}.
+ *
+ * @see JsonLinesReader
+ */
+public final class JsonLinesWriter<T> implements Closeable, Flushable {
+
+    private final TypeAdapter<T> adapter;
+
+    private final Writer out;
+
+    private final JsonWriter writer;
+
+    public JsonLinesWriter(Gson gson, TypeToken<T> type, Writer out) throws IOException {
+        this.adapter = gson.getAdapter(type);
+        this.out = out;
+        this.writer = gson.newJsonWriter(out);
+        // a line can't be pretty-printed
+        writer.setIndent("");
+        // to write a top-level value per line
+        writer.setLenient(true);
+    }
+
+    public JsonLinesWriter(Gson gson, Class<T> type, Writer out) throws IOException {
+        this(gson, TypeToken.get(type), out);
+    }
+
+    public void write(T value) throws IOException {
+        adapter.write(writer, value);
+        out.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * Closes the underlying writer.
+     */
+    @Override
+    public void close() throws IOException {
+        // JsonWriter#close() rejects an empty document
+        out.close();
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.gfx.static_gson;
+
+/**
+ * A serialized name with its quoted and escaped forms, so that {@link StaticGsonWriter} copies it instead of escaping
+ * it on every write. Generated type adapters have one per field, encoded by the annotation processor.
+ */
+public final class JsonName {
+
+    static final String[] REPLACEMENT_CHARS;
+
+    static final String[] HTML_SAFE_REPLACEMENT_CHARS;
+
+    static {
+        // the same as com.google.gson.stream.JsonWriter
+        REPLACEMENT_CHARS = new String[128];
+        for (int i = 0; i <= 0x1f; i++) {
+            REPLACEMENT_CHARS[i] = String.format("\\u%04x", i);
+        }
+        REPLACEMENT_CHARS['"'] = "\\\"";
+        REPLACEMENT_CHARS['\\'] = "\\\\";
+        REPLACEMENT_CHARS['\t'] = "\\t";
+        REPLACEMENT_CHARS['\b'] = "\\b";
+        REPLACEMENT_CHARS['\n'] = "\\n";
+        REPLACEMENT_CHARS['\r'] = "\\r";
+        REPLACEMENT_CHARS['\f'] = "\\f";
+        HTML_SAFE_REPLACEMENT_CHARS = REPLACEMENT_CHARS.clone();
+        HTML_SAFE_REPLACEMENT_CHARS['<'] = "\\u003c";
+        HTML_SAFE_REPLACEMENT_CHARS['>'] = "\\u003e";
+        HTML_SAFE_REPLACEMENT_CHARS['&'] = "\\u0026";
+        HTML_SAFE_REPLACEMENT_CHARS['='] = "\\u003d";
+        HTML_SAFE_REPLACEMENT_CHARS['\''] = "\\u0027";
+    }
+
+    final String name;
+
+    final char[] quoted;
+
+    final char[] htmlSafeQuoted;
+
+    /**
+     * @param quoted         {@code name} quoted by {@link #quote(String, boolean) quote(name, false)}
+     * @param htmlSafeQuoted {@code name} quoted by {@link #quote(String, boolean) quote(name, true)}
+     */
+    public JsonName(String name, String quoted, String htmlSafeQuoted) {
+        this.name = name;
+        this.quoted = quoted.toCharArray();
+        this.htmlSafeQuoted = quoted.equals(htmlSafeQuoted) ? this.quoted : htmlSafeQuoted.toCharArray();
+    }
+
+    /**
+     * For names that are quoted the same with or without HTML escaping.
+     */
+    public JsonName(String name, String quoted) {
+        this(name, quoted, quoted);
+    }
+
+    public static JsonName of(String name) {
+        return new JsonName(name, quote(name, false), quote(name, true));
+    }
+
+    /**
+     * @return {@code value} as a JSON string literal, escaped as {@link com.google.gson.stream.JsonWriter} does
+     */
+    public static String quote(String value, boolean htmlSafe) {
+        String[] replacements = htmlSafe ? HTML_SAFE_REPLACEMENT_CHARS : REPLACEMENT_CHARS;
+        StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0, length = value.length(); i < length; i++) {
+            char c = value.charAt(i);
+            String replacement = null;
+            if (c < 128) {
+                replacement = replacements[c];
+            } else if (c == '\u2028') {
+                replacement = "\\u2028";
+            } else if (c == '\u2029') {
+                replacement = "\\u2029";
+            }
+            if (replacement != null) {
+                builder.append(replacement);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,171 @@
+package com.github.gfx.static_gson;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A lookup table of the serialized names of a model, used by generated type adapters to dispatch JSON keys.
+ *
+ * Names are bucketed by length, and each bucket branches on the characters that tell its names apart, so a lookup
+ * is a length check, a few indexed character loads and a single {@link String#equals(Object)}, without computing
+ * {@link String#hashCode()} of the key.
+ */
+public final class JsonNameTable {
+
+    private static final Bucket[] EMPTY_BUCKETS = new Bucket[0];
+
+    private final String[] names;
+
+    private final Bucket[] buckets;
+
+    /**
+     * @throws IllegalArgumentException if a name is given twice
+     */
+    public JsonNameTable(String... names) {
+        this.names = names.clone();
+
+        int maxLength = -1;
+        for (String name : names) {
+            maxLength = Math.max(maxLength, name.length());
+        }
+        buckets = maxLength < 0 ? EMPTY_BUCKETS : new Bucket[maxLength + 1];
+
+        for (int length = 0; length < buckets.length; length++) {
+            List<Integer> indexes = new ArrayList<>();
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].length() == length) {
+                    if (containsName(names, indexes, names[i])) {
+                        throw new IllegalArgumentException("Duplicate name: " + names[i]);
+                    }
+                    indexes.add(i);
+                }
+            }
+            if (!indexes.isEmpty()) {
+                buckets[length] = new Bucket(names, indexes);
+            }
+        }
+    }
+
+    private static boolean containsName(String[] names, List<Integer> indexes, String name) {
+        for (int index : indexes) {
+            if (names[index].equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The position of {@code name} in the table, or {@code -1} if it is unknown
+     */
+    public int indexOf(String name) {
+        int length = name.length();
+        if (length >= buckets.length) {
+            return -1;
+        }
+        Bucket bucket = buckets[length];
+        if (bucket == null) {
+            return -1;
+        }
+        int index = bucket.find(name);
+        return index != -1 && names[index].equals(name) ? index : -1;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Either a leaf holding one name, or a branch on the character at {@link #position}.
+     */
+    private static final class Bucket {
+
+        /**
+         * The position of the character to branch on, or {@code -1} for a leaf
+         */
+        final int position;
+
+        /**
+         * The index of the only name of a leaf
+         */
+        final int index;
+
+        final char minChar;
+
+        final Bucket[] children;
+
+        Bucket(String[] allNames, List<Integer> indexes) {
+            if (indexes.size() == 1) {
+                position = -1;
+                index = indexes.get(0);
+                minChar = 0;
+                children = null;
+                return;
+            }
+            index = -1;
+
+            // branch on the position with the most distinct characters, which keeps the tree shallow
+            int length = allNames[indexes.get(0)].length();
+            int bestPosition = -1;
+            int bestCount = 1;
+            for (int p = 0; p < length; p++) {
+                int count = countDistinctAt(allNames, indexes, p);
+                if (count > bestCount) {
+                    bestPosition = p;
+                    bestCount = count;
+                }
+            }
+            position = bestPosition;
+
+            char min = Character.MAX_VALUE;
+            char max = Character.MIN_VALUE;
+            for (int i : indexes) {
+                char c = allNames[i].charAt(position);
+                min = (char) Math.min(min, c);
+                max = (char) Math.max(max, c);
+            }
+            minChar = min;
+            children = new Bucket[max - min + 1];
+            for (int c = min; c <= max; c++) {
+                List<Integer> group = new ArrayList<>();
+                for (int i : indexes) {
+                    if (allNames[i].charAt(position) == c) {
+                        group.add(i);
+                    }
+                }
+                if (!group.isEmpty()) {
+                    children[c - min] = new Bucket(allNames, group);
+                }
+            }
+        }
+
+        private static int countDistinctAt(String[] names, List<Integer> indexes, int position) {
+            StringBuilder seen = new StringBuilder();
+            for (int i : indexes) {
+                char c = names[i].charAt(position);
+                if (seen.indexOf(String.valueOf(c)) == -1) {
+                    seen.append(c);
+                }
+            }
+            return seen.length();
+        }
+
+        /**
+         * @return The only index that can be {@code name}, or {@code -1}
+         */
+        int find(String name) {
+            Bucket bucket = this;
+            while (bucket.position != -1) {
+                int offset = name.charAt(bucket.position) - bucket.minChar;
+                if (offset < 0 || offset >= bucket.children.length) {
+                    return -1;
+                }
+                bucket = bucket.children[offset];
+                if (bucket == null) {
+                    return -1;
+                }
+            }
+            return bucket.index;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.gfx.static_gson;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * A type adapter that asks {@link Gson} for its delegate on first use, so that creating the adapter of a root model
+ * doesn't resolve the adapters of its whole object graph.
+ *
+ * Generated type adapters use this for their field types when the processor option
+ * {@code staticgson.lazyAdapters} is {@code true}. Concurrent first uses may both call {@link Gson#getAdapter}, whose
+ * results are interchangeable, so no lock is needed; later uses are a single volatile read.
+ */
+public final class LazyTypeAdapter<T> extends TypeAdapter<T> implements ReusableTypeAdapter<T> {
+
+    private final Gson gson;
+
+    private final TypeToken<T> typeToken;
+
+    private volatile TypeAdapter<T> delegate;
+
+    private LazyTypeAdapter(Gson gson, TypeToken<T> typeToken) {
+        this.gson = gson;
+        this.typeToken = typeToken;
+    }
+
+    public static <T> TypeAdapter<T> of(Gson gson, TypeToken<T> typeToken) {
+        return new LazyTypeAdapter<>(gson, typeToken);
+    }
+
+    private TypeAdapter<T> getDelegate() {
+        TypeAdapter<T> d = delegate;
+        if (d == null) {
+            d = gson.getAdapter(typeToken);
+            delegate = d;
+        }
+        return d;
+    }
+
+    @Override
+    public void write(JsonWriter out, T value) throws IOException {
+        getDelegate().write(out, value);
+    }
+
+    @Override
+    public T read(JsonReader in) throws IOException {
+        return getDelegate().read(in);
+    }
+
+    @Override
+    public T readInto(JsonReader in, T target) throws IOException {
+        return ParserHelper.readInto(getDelegate(), in, target);
+    }
+}
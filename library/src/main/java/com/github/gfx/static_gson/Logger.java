@@ -3,10 +3,31 @@ package com.github.gfx.static_gson;
 public class Logger {
     private static Delegate delegate;
 
+    private static boolean stackTraceEnabled = true;
+
     public static void setDelegate(Delegate delegate) {
         Logger.delegate = delegate;
     }
 
+    /**
+     * @return {@code true} if graceful failures are delivered to a delegate, so their messages are worth building
+     */
+    public static boolean isEnabled() {
+        return delegate != null;
+    }
+
+    /**
+     * Disabling stack traces makes {@link JsonGracefulException} cheap enough for payloads with many malformed fields.
+     * Stack traces are enabled by default.
+     */
+    public static void setStackTraceEnabled(boolean stackTraceEnabled) {
+        Logger.stackTraceEnabled = stackTraceEnabled;
+    }
+
+    public static boolean isStackTraceEnabled() {
+        return stackTraceEnabled;
+    }
+
     public static void log(Exception ex) {
         if (delegate != null) {
             delegate.log(ex);
@@ -0,0 +1,77 @@
+package com.github.gfx.static_gson;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.internal.bind.TypeAdapters;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * Writes {@code long} values the way the {@link Gson} instance does, without boxing them for the built-in
+ * {@link com.google.gson.LongSerializationPolicy} adapters.
+ */
+public abstract class LongValueWriter {
+
+    private static final LongValueWriter NUMBER = new LongValueWriter() {
+        @Override
+        public void write(JsonWriter writer, long value) throws IOException {
+            writer.value(value);
+        }
+    };
+
+    private static final LongValueWriter STRING = new LongValueWriter() {
+        @Override
+        public void write(JsonWriter writer, long value) throws IOException {
+            writer.value(Long.toString(value));
+        }
+    };
+
+    public abstract void write(JsonWriter writer, long value) throws IOException;
+
+    public static LongValueWriter of(Gson gson) {
+        return of(gson, long.class);
+    }
+
+    /**
+     * @param type {@code long.class} or {@code Long.class}, which may have different adapters
+     */
+    public static LongValueWriter of(Gson gson, Class<Long> type) {
+        final TypeAdapter<Long> adapter = gson.getAdapter(type);
+        if ((TypeAdapter<?>) adapter == TypeAdapters.LONG) {
+            return NUMBER;
+        }
+        if (isBuiltIn(adapter) && isStringPolicy(adapter)) {
+            return STRING;
+        }
+        // a user-defined adapter for long
+        return new LongValueWriter() {
+            @Override
+            public void write(JsonWriter writer, long value) throws IOException {
+                adapter.write(writer, value);
+            }
+        };
+    }
+
+    /**
+     * @return {@code true} if {@code adapter} is one of the adapters that {@link Gson} creates for its own settings
+     */
+    static boolean isBuiltIn(TypeAdapter<?> adapter) {
+        return adapter.getClass().getEnclosingClass() == Gson.class
+                || adapter.getClass().getEnclosingClass() == TypeAdapters.class;
+    }
+
+    private static boolean isStringPolicy(TypeAdapter<Long> adapter) {
+        StringWriter out = new StringWriter();
+        JsonWriter writer = new JsonWriter(out);
+        writer.setLenient(true);
+        try {
+            adapter.write(writer, 1L);
+            writer.flush();
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return out.toString().equals("\"1\"");
+    }
+}
@@ -0,0 +1,279 @@
+// forked from Gson so we can gracefully ignore failed map entries
+package com.github.gfx.static_gson;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.InstanceCreator;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.internal.$Gson$Types;
+import com.google.gson.internal.ConstructorConstructor;
+import com.google.gson.internal.JsonReaderInternalAccess;
+import com.google.gson.internal.ObjectConstructor;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Adapt a map of StaticGson types, keyed by strings, boxed primitives or enums.
+ */
+public final class MapTypeAdapterFactory implements TypeAdapterFactory {
+    private final ConstructorConstructor constructorConstructor;
+    private final boolean complexMapKeySerialization;
+
+    public MapTypeAdapterFactory() {
+        this(false);
+    }
+
+    /**
+     * @param complexMapKeySerialization Must be the same as {@link GsonBuilder#enableComplexMapKeySerialization()}, so
+     *                                   that enum keys are written by their {@code @SerializedName} as Gson does
+     */
+    public MapTypeAdapterFactory(boolean complexMapKeySerialization) {
+        final Map<Type, InstanceCreator<?>> instanceCreators
+                = new HashMap<Type, InstanceCreator<?>>();
+        this.constructorConstructor = new ConstructorConstructor(instanceCreators);
+        this.complexMapKeySerialization = complexMapKeySerialization;
+    }
+
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+        Type type = typeToken.getType();
+
+        Class<? super T> rawType = typeToken.getRawType();
+        if (!Map.class.isAssignableFrom(rawType)) {
+            return null;
+        }
+
+        Type[] keyAndValueTypes = $Gson$Types.getMapKeyAndValueTypes(type, rawType);
+        // Only use this specialised map adapter for @JsonSerializable StaticGson types, for the same reason as
+        // CollectionTypeAdapterFactory. Keys are limited to those read from a name without a nested value.
+        Type keyType = keyAndValueTypes[0];
+        Type valueType = keyAndValueTypes[1];
+        if (!(valueType instanceof Class) || !StaticGsonTypeAdapterFactory.isStaticGsonType((Class<?>) valueType)) {
+            return null;
+        }
+        if (!(keyType instanceof Class) || getKeyKind((Class<?>) keyType) == KEY_UNSUPPORTED) {
+            return null;
+        }
+
+        TypeAdapter<?> keyTypeAdapter = gson.getAdapter(TypeToken.get(keyType));
+        TypeAdapter<?> valueTypeAdapter = gson.getAdapter(TypeToken.get(valueType));
+        ObjectConstructor<T> constructor = constructorConstructor.get(typeToken);
+
+        @SuppressWarnings({"unchecked", "rawtypes"}) // create() doesn't define a type parameter
+                TypeAdapter<T> result = new Adapter((Class<?>) keyType, (Class<?>) valueType, keyTypeAdapter,
+                valueTypeAdapter, rawType, constructor, complexMapKeySerialization);
+        return result;
+    }
+
+    private static final int KEY_UNSUPPORTED = 0;
+    private static final int KEY_STRING = 1;
+    private static final int KEY_ENUM = 2;
+    private static final int KEY_PRIMITIVE = 3;
+
+    private static int getKeyKind(Class<?> keyType) {
+        if (keyType == String.class) {
+            return KEY_STRING;
+        } else if (keyType.isEnum()) {
+            return KEY_ENUM;
+        } else if (keyType == Integer.class || keyType == Long.class || keyType == Short.class
+                || keyType == Byte.class || keyType == Double.class || keyType == Float.class
+                || keyType == Boolean.class) {
+            return KEY_PRIMITIVE;
+        } else {
+            return KEY_UNSUPPORTED;
+        }
+    }
+
+    private static final class Adapter<K, V> extends TypeAdapter<Map<K, V>> {
+        private final Class<?> valueType;
+        private final Class<K> keyType;
+        private final int keyKind;
+        private final TypeAdapter<K> keyTypeAdapter;
+        private final TypeAdapter<V> valueTypeAdapter;
+        /**
+         * {@code null} if {@link #newMap} creates a presized {@link HashMap} or {@link LinkedHashMap} by itself
+         */
+        private final ObjectConstructor<? extends Map<K, V>> constructor;
+        private final boolean hashMap;
+        /**
+         * Names of enum keys by ordinal, resolved once instead of through a {@code JsonElement} per key as Gson does
+         */
+        private final String[] enumKeyNames;
+        /**
+         * The size of the last map read, to presize the next one. Races between threads only cost a resize.
+         */
+        private int expectedSize;
+
+        public Adapter(Class<K> keyType, Class<?> valueType, TypeAdapter<K> keyTypeAdapter,
+                       TypeAdapter<V> valueTypeAdapter, Class<?> rawType,
+                       ObjectConstructor<? extends Map<K, V>> constructor, boolean complexMapKeySerialization) {
+            this.keyType = keyType;
+            this.valueType = valueType;
+            this.keyKind = getKeyKind(keyType);
+            this.keyTypeAdapter = keyTypeAdapter;
+            this.valueTypeAdapter = valueTypeAdapter;
+            this.hashMap = rawType == HashMap.class;
+            this.constructor = hashMap || rawType.isAssignableFrom(LinkedHashMap.class) ? null : constructor;
+
+            if (keyKind == KEY_ENUM && complexMapKeySerialization) {
+                K[] constants = keyType.getEnumConstants();
+                enumKeyNames = new String[constants.length];
+                for (int i = 0; i < constants.length; i++) {
+                    enumKeyNames[i] = keyTypeAdapter.toJsonTree(constants[i]).getAsString();
+                }
+            } else {
+                enumKeyNames = null;
+            }
+        }
+
+        private Map<K, V> newMap() {
+            if (constructor != null) {
+                return constructor.construct();
+            }
+            int capacity = expectedSize * 4 / 3 + 1;
+            return hashMap ? new HashMap<K, V>(capacity) : new LinkedHashMap<K, V>(capacity);
+        }
+
+        @Override
+        public Map<K, V> read(JsonReader in) throws IOException {
+            JsonToken peek = in.peek();
+            if (peek == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            Map<K, V> map = newMap();
+            if (peek == JsonToken.BEGIN_ARRAY) {
+                // [[key, value], ...], as Gson writes complex keys
+                in.beginArray();
+                while (in.hasNext()) {
+                    in.beginArray();
+                    try {
+                        K key = keyTypeAdapter.read(in);
+                        V value = valueTypeAdapter.read(in);
+                        put(in, map, key, value);
+                    } catch (JsonUngracefulException ex) {
+                        throw ex;
+                    } catch (Exception ex) {
+                        Metrics.reportFailure(valueType, null, in, ex);
+                        Logger.log(ex);
+                    }
+                    while (in.hasNext()) {
+                        in.skipValue();
+                    }
+                    in.endArray();
+                }
+                in.endArray();
+            } else {
+                in.beginObject();
+                while (in.hasNext()) {
+                    K key;
+                    try {
+                        key = readKey(in);
+                    } catch (JsonUngracefulException ex) {
+                        throw ex;
+                    } catch (Exception ex) {
+                        // the name has been consumed
+                        Metrics.reportFailure(valueType, null, in, ex);
+                        Logger.log(ex);
+                        in.skipValue();
+                        continue;
+                    }
+
+                    try {
+                        V value = valueTypeAdapter.read(in);
+                        put(in, map, key, value);
+                    } catch (JsonUngracefulException ex) {
+                        throw ex;
+                    } catch (Exception ex) {
+                        Metrics.reportFailure(valueType, null, in, ex);
+                        Logger.log(ex);
+                        if (!(ex instanceof JsonGracefulException)) {
+                            in.skipValue();
+                        }
+                    }
+                }
+                in.endObject();
+            }
+            expectedSize = map.size();
+            return map;
+        }
+
+        /**
+         * A duplicate key is logged rather than thrown as Gson does, and the last value wins.
+         */
+        private void put(JsonReader in, Map<K, V> map, K key, V value) {
+            if (map.put(key, value) != null && Logger.isEnabled()) {
+                Logger.log(JsonGracefulException.format("Duplicate key %s at %s", key, in.getPath()));
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private K readKey(JsonReader in) throws IOException {
+            switch (keyKind) {
+                case KEY_STRING:
+                    return (K) in.nextName();
+                case KEY_ENUM:
+                    // enum adapters consume any string, so the name is consumed whatever happens
+                    JsonReaderInternalAccess.INSTANCE.promoteNameToValue(in);
+                    return keyTypeAdapter.read(in);
+                default:
+                    return parsePrimitiveKey(in, in.nextName());
+            }
+        }
+
+        private K parsePrimitiveKey(JsonReader in, String name) {
+            Object key;
+            try {
+                if (keyType == Integer.class) {
+                    key = Integer.valueOf(name);
+                } else if (keyType == Long.class) {
+                    key = Long.valueOf(name);
+                } else if (keyType == Double.class) {
+                    key = Double.valueOf(name);
+                } else if (keyType == Float.class) {
+                    key = Float.valueOf(name);
+                } else if (keyType == Short.class) {
+                    key = Short.valueOf(name);
+                } else if (keyType == Byte.class) {
+                    key = Byte.valueOf(name);
+                } else {
+                    key = Boolean.valueOf(name);
+                }
+            } catch (NumberFormatException ex) {
+                throw JsonGracefulException.format("Expecting a key of %s but was \"%s\" at %s", keyType.getSimpleName(),
+                        name, in.getPath());
+            }
+            return keyType.cast(key);
+        }
+
+        @Override
+        public void write(JsonWriter out, Map<K, V> map) throws IOException {
+            if (map == null) {
+                out.nullValue();
+                return;
+            }
+
+            out.beginObject();
+            for (Map.Entry<K, V> entry : map.entrySet()) {
+                K key = entry.getKey();
+                if (enumKeyNames != null && key != null) {
+                    out.name(enumKeyNames[((Enum<?>) key).ordinal()]);
+                } else {
+                    out.name(String.valueOf(key));
+                }
+                valueTypeAdapter.write(out, entry.getValue());
+            }
+            out.endObject();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.gfx.static_gson;
+
+import com.google.gson.stream.JsonReader;
+
+/**
+ * Reports reads, writes, graceful failures and unknown fields of StaticGson type adapters to a {@link Delegate}, such
+ * as {@link MetricsRecorder}, as {@link Logger} does for the failures themselves.
+ *
+ * Reads and writes are timed only for the adapters that {@link StaticGsonTypeAdapterFactory} creates while a timed
+ * delegate is set, so set it before creating {@code Gson} instances. Without one, adapters are not wrapped at all, and
+ * the other reports cost a field read.
+ */
+public class Metrics {
+    private static volatile Delegate delegate;
+
+    private static volatile boolean timed;
+
+    public static void setDelegate(Delegate delegate) {
+        setDelegate(delegate, true);
+    }
+
+    /**
+     * @param timed {@code false} if the delegate ignores {@link Delegate#onRead(Class, long)} and
+     *              {@link Delegate#onWrite(Class, long)}, so that adapters are not timed for nothing
+     */
+    public static void setDelegate(Delegate delegate, boolean timed) {
+        Metrics.delegate = delegate;
+        Metrics.timed = delegate != null && timed;
+    }
+
+    public static boolean isEnabled() {
+        return delegate != null;
+    }
+
+    public static boolean isTimed() {
+        return timed;
+    }
+
+    static Delegate getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Generated type adapters, collections, arrays and maps call this for a value that failed gracefully.
+     *
+     * @param field  The name of the field, or {@code null} for an element of a collection, array or map
+     * @param reader The reader, positioned after the failed value
+     */
+    public static void reportFailure(Class<?> type, String field, JsonReader reader, Exception ex) {
+        Delegate d = delegate;
+        if (d != null) {
+            d.onFailure(type, field, reader, ex);
+        }
+    }
+
+    /**
+     * Generated type adapters call this for a name that matches none of the fields, whose value is skipped.
+     */
+    public static void reportUnknownField(Class<?> type, String name) {
+        Delegate d = delegate;
+        if (d != null) {
+            d.onUnknownField(type, name);
+        }
+    }
+
+    /**
+     * Implementations are called concurrently from any thread that parses JSON, so they must be thread-safe and cheap.
+     */
+    public interface Delegate {
+
+        /**
+         * @param elapsedNanos The time of a completed read, including the nested models
+         */
+        void onRead(Class<?> type, long elapsedNanos);
+
+        /**
+         * @param elapsedNanos The time of a completed write, including the nested models
+         */
+        void onWrite(Class<?> type, long elapsedNanos);
+
+        /**
+         * @param field  The name of the field, or {@code null} for an element of a collection, array or map of
+         *               {@code type}
+         * @param reader The reader, positioned after the failed value. Delegates may call {@link JsonReader#getPath()}
+         *               but must not move it.
+         */
+        void onFailure(Class<?> type, String field, JsonReader reader, Exception ex);
+
+        void onUnknownField(Class<?> type, String name);
+    }
+}
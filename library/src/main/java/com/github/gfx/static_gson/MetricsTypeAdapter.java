@@ -0,0 +1,58 @@
+package com.github.gfx.static_gson;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Times the reads and writes of a generated type adapter for {@link Metrics}. Only completed ones are reported.
+ */
+final class MetricsTypeAdapter<T> extends TypeAdapter<T> implements ReusableTypeAdapter<T> {
+
+    private final Class<?> type;
+
+    private final TypeAdapter<T> delegate;
+
+    MetricsTypeAdapter(Class<?> type, TypeAdapter<T> delegate) {
+        this.type = type;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void write(JsonWriter out, T value) throws IOException {
+        Metrics.Delegate metrics = Metrics.getDelegate();
+        if (metrics == null) {
+            delegate.write(out, value);
+            return;
+        }
+        long startedAt = System.nanoTime();
+        delegate.write(out, value);
+        metrics.onWrite(type, System.nanoTime() - startedAt);
+    }
+
+    @Override
+    public T read(JsonReader in) throws IOException {
+        Metrics.Delegate metrics = Metrics.getDelegate();
+        if (metrics == null) {
+            return delegate.read(in);
+        }
+        long startedAt = System.nanoTime();
+        T value = delegate.read(in);
+        metrics.onRead(type, System.nanoTime() - startedAt);
+        return value;
+    }
+
+    @Override
+    public T readInto(JsonReader in, T target) throws IOException {
+        Metrics.Delegate metrics = Metrics.getDelegate();
+        if (metrics == null) {
+            return ParserHelper.readInto(delegate, in, target);
+        }
+        long startedAt = System.nanoTime();
+        T value = ParserHelper.readInto(delegate, in, target);
+        metrics.onRead(type, System.nanoTime() - startedAt);
+        return value;
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.gfx.static_gson;
 
+import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 
@@ -7,19 +8,21 @@ import java.io.IOException;
 
 public class ParserHelper {
 
+    private static final String UNKNOWN_PATH = "(unknown path)";
+
     public static Boolean nextRelaxedBoolean(JsonReader reader, boolean nullable, boolean nonNull, Boolean currentValue)
             throws IOException, IllegalAccessException {
         JsonToken token = reader.peek();
         if (token == JsonToken.STRING) {
-            String path = reader.getPath();
+            String path = getPathIfNeeded(reader, nonNull);
             String string = reader.nextString();
             if ("true".equalsIgnoreCase(string)) {
                 return true;
             } else if ("false".equalsIgnoreCase(string)) {
                 return false;
             } else {
-                String message = String.format("Expecting true or false but was \"%s\" at %s", string, path);
-                RuntimeException ex = new JsonGracefulException(message);
+                RuntimeException ex = JsonGracefulException.format("Expecting true or false but was \"%s\" at %s",
+                        string, path);
                 if (nullable) {
                     Logger.log(ex);
                     return null;
@@ -30,15 +33,14 @@ public class ParserHelper {
                 }
             }
         } else if (token == JsonToken.NUMBER) {
-            String path = reader.getPath();
+            String path = getPathIfNeeded(reader, nonNull);
             int number = reader.nextInt();
             if (number == 1) {
                 return true;
             } else if (number == 0) {
                 return false;
             } else {
-                String message = String.format("Expecting 1 or 0 but was %d at %s", number, path);
-                RuntimeException ex = new JsonGracefulException(message);
+                RuntimeException ex = JsonGracefulException.format("Expecting 1 or 0 but was %d at %s", number, path);
                 if (nullable) {
                     Logger.log(ex);
                     return null;
@@ -48,8 +50,182 @@ public class ParserHelper {
                     throw ex;
                 }
             }
+        } else if (token != JsonToken.BOOLEAN) {
+            throw unexpectedToken(reader, "a boolean", token, nonNull);
         } else {
             return reader.nextBoolean();
         }
     }
+
+    /**
+     * Generated type adapters call this before {@link JsonReader#nextString()}, {@link JsonReader#nextLong()} and
+     * {@link JsonReader#nextDouble()}, which would throw an {@link IllegalStateException} with a stack trace and an
+     * eagerly built message for any other token.
+     *
+     * @param strict {@code true} if the failure will be thrown rather than logged
+     */
+    public static void checkStringOrNumber(JsonReader reader, boolean strict) throws IOException {
+        JsonToken token = reader.peek();
+        if (token != JsonToken.STRING && token != JsonToken.NUMBER) {
+            throw unexpectedToken(reader, "a string or number", token, strict);
+        }
+    }
+
+    /**
+     * Reads an int with a range check, instead of truncating {@link JsonReader#nextLong()} as generated code used to.
+     * A number is read with {@link JsonReader#nextLong()}, which reads an integer literal without a {@link String},
+     * and fails with a {@link JsonGracefulException} out of the range rather than the {@link NumberFormatException}
+     * of {@link JsonReader#nextInt()}. A string is parsed as {@link JsonReader} does, and fails in the same way.
+     *
+     * @param strict {@code true} if the failure will be thrown rather than logged
+     */
+    public static int nextInt(JsonReader reader, boolean strict) throws IOException {
+        return nextIntInRange(reader, Integer.MIN_VALUE, Integer.MAX_VALUE, "an int", strict);
+    }
+
+    /**
+     * @see #nextInt(JsonReader, boolean)
+     */
+    public static short nextShort(JsonReader reader, boolean strict) throws IOException {
+        return (short) nextIntInRange(reader, Short.MIN_VALUE, Short.MAX_VALUE, "a short", strict);
+    }
+
+    /**
+     * @see #nextInt(JsonReader, boolean)
+     */
+    public static byte nextByte(JsonReader reader, boolean strict) throws IOException {
+        return (byte) nextIntInRange(reader, Byte.MIN_VALUE, Byte.MAX_VALUE, "a byte", strict);
+    }
+
+    /**
+     * Reads a float with a range check, instead of {@code (float) reader.nextDouble()}, which turns a finite number
+     * beyond {@link Float#MAX_VALUE} into an infinity.
+     *
+     * @param strict {@code true} if the failure will be thrown rather than logged
+     */
+    public static float nextFloat(JsonReader reader, boolean strict) throws IOException {
+        JsonToken token = reader.peek();
+        double value;
+        if (token == JsonToken.NUMBER) {
+            value = reader.nextDouble();
+        } else if (token == JsonToken.STRING) {
+            String string = reader.nextString();
+            try {
+                value = Double.parseDouble(string);
+            } catch (NumberFormatException ex) {
+                throw invalidNumber(reader, "a float", string, strict);
+            }
+        } else {
+            throw unexpectedToken(reader, "a float", token, strict);
+        }
+        float result = (float) value;
+        if (Float.isInfinite(result) && !Double.isInfinite(value)) {
+            throw outOfRange(reader, "a float", value, strict);
+        }
+        return result;
+    }
+
+    /**
+     * Values that fail after they are consumed leave the reader at the next name, and the others at the value itself.
+     * Generated type adapters call this to skip the value of a failed field in both cases.
+     */
+    public static void skipFailedValue(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        if (token != JsonToken.END_OBJECT && token != JsonToken.NAME) {
+            reader.skipValue();
+        }
+    }
+
+    private static int nextIntInRange(JsonReader reader, int min, int max, String expected, boolean strict)
+            throws IOException {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.NUMBER) {
+            long value = reader.nextLong();
+            if (value < min || value > max) {
+                throw outOfRange(reader, expected, value, strict);
+            }
+            return (int) value;
+        } else if (token == JsonToken.STRING) {
+            return (int) nextRelaxedLong(reader, min, max, expected, strict);
+        } else {
+            throw unexpectedToken(reader, expected, token, strict);
+        }
+    }
+
+    /**
+     * Parses a string as {@link JsonReader#nextLong()} does, accepting an integral value in a decimal form like
+     * {@code "1.0"}.
+     */
+    private static long nextRelaxedLong(JsonReader reader, long min, long max, String expected, boolean strict)
+            throws IOException {
+        String string = reader.nextString();
+        long value;
+        try {
+            value = Long.parseLong(string);
+        } catch (NumberFormatException ex) {
+            double asDouble;
+            try {
+                asDouble = Double.parseDouble(string);
+            } catch (NumberFormatException ex2) {
+                throw invalidNumber(reader, expected, string, strict);
+            }
+            value = (long) asDouble;
+            if (value != asDouble) {
+                throw invalidNumber(reader, expected, string, strict);
+            }
+        }
+        if (value < min || value > max) {
+            throw invalidNumber(reader, expected, string, strict);
+        }
+        return value;
+    }
+
+    private static JsonGracefulException invalidNumber(JsonReader reader, String expected, String value,
+            boolean strict) {
+        return JsonGracefulException.format("Expecting %s but was \"%s\" at %s", expected, value,
+                getPathIfNeeded(reader, strict));
+    }
+
+    private static JsonGracefulException outOfRange(JsonReader reader, String expected, Number value, boolean strict) {
+        return JsonGracefulException.format("Expecting %s but was %s at %s", expected, value,
+                getPathIfNeeded(reader, strict));
+    }
+
+    /**
+     * Generated enum type adapters call this for a string that matches none of the constants, which is read as
+     * {@code null} as Gson does.
+     */
+    public static void logUnknownConstant(JsonReader reader, Class<?> enumType, String name) {
+        if (Logger.isEnabled()) {
+            Logger.log(JsonGracefulException.format("Unknown constant \"%s\" of %s at %s", name, enumType.getName(),
+                    reader.getPath()));
+        }
+    }
+
+    /**
+     * Reads the next value into {@code target} if {@code adapter} is a {@link ReusableTypeAdapter}, or a new instance
+     * otherwise.
+     *
+     * @param target An instance to reuse, or {@code null} to read a new one
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T readInto(TypeAdapter<T> adapter, JsonReader reader, T target) throws IOException {
+        if (target != null && adapter instanceof ReusableTypeAdapter) {
+            return ((ReusableTypeAdapter<T>) adapter).readInto(reader, target);
+        }
+        return adapter.read(reader);
+    }
+
+    private static JsonGracefulException unexpectedToken(JsonReader reader, String expected, JsonToken token,
+            boolean strict) {
+        return JsonGracefulException.format("Expecting %s but was %s at %s", expected, token,
+                getPathIfNeeded(reader, strict));
+    }
+
+    /**
+     * {@link JsonReader#getPath()} walks the whole stack of the reader, so it is skipped for failures nobody sees.
+     */
+    private static String getPathIfNeeded(JsonReader reader, boolean strict) {
+        return strict || Logger.isEnabled() ? reader.getPath() : UNKNOWN_PATH;
+    }
 }
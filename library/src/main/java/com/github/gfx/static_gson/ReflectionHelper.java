@@ -0,0 +1,86 @@
+package com.github.gfx.static_gson;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+
+public class ReflectionHelper {
+
+    /**
+     * Generated type adapters call this once per private field that has no accessor methods,
+     * and keep the returned handle for all reads and writes.
+     *
+     * @return An accessible field declared in {@code declaringClass}
+     */
+    public static Field getAccessibleField(Class<?> declaringClass, String name) {
+        try {
+            Field field = declaringClass.getDeclaredField(name);
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException e) {
+            throw new RuntimeException("Missing field " + name + " in " + declaringClass.getName(), e);
+        }
+    }
+
+    /**
+     * Generated type adapters of Kotlin classes call this once for the synthetic constructor that evaluates default
+     * arguments, which takes the parameters of the primary constructor, a bitmask per 32 parameters of the ones to
+     * default, and a {@code DefaultConstructorMarker}. Java source can't call synthetic constructors directly.
+     *
+     * @return An accessible constructor declared in {@code declaringClass}
+     */
+    public static <T> Constructor<T> getDefaultsConstructor(Class<T> declaringClass, Class<?>... parameterTypes) {
+        int maskCount = (parameterTypes.length + 31) / 32;
+        Class<?>[] types = new Class<?>[parameterTypes.length + maskCount + 1];
+        System.arraycopy(parameterTypes, 0, types, 0, parameterTypes.length);
+        for (int i = 0; i < maskCount; i++) {
+            types[parameterTypes.length + i] = int.class;
+        }
+        types[types.length - 1] = DefaultConstructorMarker.TYPE;
+        try {
+            Constructor<T> constructor = declaringClass.getDeclaredConstructor(types);
+            constructor.setAccessible(true);
+            return constructor;
+        } catch (NoSuchMethodException e) {
+            throw new RuntimeException("Missing the constructor with default arguments in " + declaringClass.getName(),
+                    e);
+        }
+    }
+
+    /**
+     * {@code kotlin.jvm.internal.DefaultConstructorMarker} is not public, so it is resolved by name, and only when a
+     * Kotlin class is used
+     */
+    private static class DefaultConstructorMarker {
+
+        static final Class<?> TYPE;
+
+        static {
+            try {
+                TYPE = Class.forName("kotlin.jvm.internal.DefaultConstructorMarker");
+            } catch (ClassNotFoundException e) {
+                throw new RuntimeException("Missing kotlin-stdlib", e);
+            }
+        }
+    }
+
+    /**
+     * @param arguments The arguments of {@link #getDefaultsConstructor(Class, Class[])}, followed by the bitmasks and
+     *                  {@code null} for the marker
+     */
+    public static <T> T newInstance(Constructor<T> constructor, Object... arguments) {
+        try {
+            return constructor.newInstance(arguments);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
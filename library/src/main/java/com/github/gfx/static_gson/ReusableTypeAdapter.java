@@ -0,0 +1,24 @@
+package com.github.gfx.static_gson;
+
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+
+/**
+ * A type adapter that can read into an existing instance instead of a new one, so that models can be pooled.
+ *
+ * Type adapters generated with the processor option {@code staticgson.readInto} implement this, as do
+ * {@link CollectionTypeAdapterFactory} and {@link LazyTypeAdapter}. Use {@link ParserHelper#readInto} to fall back to
+ * {@link com.google.gson.TypeAdapter#read} for other adapters.
+ */
+public interface ReusableTypeAdapter<T> {
+
+    /**
+     * Reads the next value into {@code target}. The result is equal to what {@code read} returns: fields missing
+     * from the JSON are reset to their defaults, and {@code JsonMustSet} and {@code NonNull} are checked as usual.
+     * Nested models and lists that {@code target} already has are read into as well.
+     *
+     * @return {@code target}, or {@code null} if the value is JSON null
+     */
+    T readInto(JsonReader reader, T target) throws IOException;
+}
@@ -0,0 +1,23 @@
+package com.github.gfx.static_gson;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.internal.ObjectConstructor;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * An index of the type adapters generated for a package, which is loaded once per package by
+ * {@link StaticGsonTypeAdapterFactory}. Not for users.
+ */
+public interface StaticGsonIndex {
+
+    /**
+     * @return {@code true} if {@code type} has a generated type adapter in this index
+     */
+    boolean contains(Class<?> type);
+
+    /**
+     * @return A new generated type adapter, or {@code null} if the type is not in this index
+     */
+    <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken, ObjectConstructor<T> objectConstructor);
+}
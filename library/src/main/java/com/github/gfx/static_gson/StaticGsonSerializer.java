@@ -0,0 +1,153 @@
+package com.github.gfx.static_gson;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Serializes with pooled {@link StaticGsonWriter}s instead of a new {@code StringWriter} and {@code JsonWriter} per
+ * call, so that {@link #toJson(Object)} allocates little more than the resulting {@code String}.
+ *
+ * Buffers are kept in slots picked by the thread ID and taken out while in use, so a thread usually gets back its own
+ * buffers, and a serializer is safe for any number of threads, including virtual threads and nested calls. Buffers
+ * that grow beyond 1M chars are not kept.
+ */
+public final class StaticGsonSerializer {
+
+    private static final int MAX_POOLED_CHARS = 1024 * 1024;
+
+    private final Gson gson;
+
+    private final AtomicReferenceArray<Buffers> pool;
+
+    private final int mask;
+
+    public StaticGsonSerializer(Gson gson) {
+        this.gson = gson;
+
+        int size = 1;
+        while (size < Runtime.getRuntime().availableProcessors() * 4) {
+            size <<= 1;
+        }
+        pool = new AtomicReferenceArray<>(size);
+        mask = size - 1;
+    }
+
+    /**
+     * @see Gson#toJson(Object)
+     */
+    public String toJson(Object value) throws JsonIOException {
+        if (value == null) {
+            return toJson(JsonNull.INSTANCE, JsonElement.class);
+        }
+        return toJson(value, value.getClass());
+    }
+
+    /**
+     * @see Gson#toJson(Object, Type)
+     */
+    public String toJson(Object value, Type type) throws JsonIOException {
+        int index = getIndex();
+        Buffers buffers = acquire(index);
+        StaticGsonWriter writer = buffers.writer;
+        gson.toJson(value, type, writer);
+        String json = new String(writer.getBuffer(), 0, writer.getBufferedSize());
+        release(index, buffers);
+        return json;
+    }
+
+    /**
+     * Writes {@code value} to {@code out} in UTF-8. {@code out} is neither flushed nor closed.
+     */
+    public void toJson(Object value, OutputStream out) throws IOException {
+        if (value == null) {
+            toJson(JsonNull.INSTANCE, JsonElement.class, out);
+        } else {
+            toJson(value, value.getClass(), out);
+        }
+    }
+
+    /**
+     * Writes {@code value} to {@code out} in UTF-8. {@code out} is neither flushed nor closed.
+     */
+    public void toJson(Object value, Type type, OutputStream out) throws IOException {
+        int index = getIndex();
+        Buffers buffers = acquire(index);
+        StaticGsonWriter writer = buffers.writer;
+        gson.toJson(value, type, writer);
+        int size = buffers.encodeUtf8(writer.getBuffer(), writer.getBufferedSize());
+        out.write(buffers.bytes, 0, size);
+        release(index, buffers);
+    }
+
+    private int getIndex() {
+        return (int) Thread.currentThread().getId() & mask;
+    }
+
+    private Buffers acquire(int index) {
+        Buffers buffers = pool.getAndSet(index, null);
+        if (buffers == null) {
+            // the first call on this slot, a nested call or a call from another thread with the same slot
+            return new Buffers();
+        }
+        buffers.writer.reset();
+        return buffers;
+    }
+
+    private void release(int index, Buffers buffers) {
+        if (buffers.writer.getBuffer().length <= MAX_POOLED_CHARS) {
+            pool.lazySet(index, buffers);
+        }
+    }
+
+    static final class Buffers {
+
+        private static final byte[] EMPTY_BYTES = new byte[0];
+
+        final StaticGsonWriter writer = new StaticGsonWriter();
+
+        byte[] bytes = EMPTY_BYTES;
+
+        /**
+         * Encodes {@code chars} in UTF-8 to {@link #bytes}. Unpaired surrogates are replaced with {@code '?'} as
+         * {@link String#getBytes(java.nio.charset.Charset)} does.
+         *
+         * @return The number of bytes
+         */
+        int encodeUtf8(char[] chars, int length) {
+            if (bytes.length < length * 3) {
+                bytes = new byte[length * 3];
+            }
+            byte[] bytes = this.bytes;
+            int size = 0;
+            for (int i = 0; i < length; i++) {
+                char c = chars[i];
+                if (c < 0x80) {
+                    bytes[size++] = (byte) c;
+                } else if (c < 0x800) {
+                    bytes[size++] = (byte) (0xC0 | (c >> 6));
+                    bytes[size++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(chars[i + 1])) {
+                    int codePoint = Character.toCodePoint(c, chars[++i]);
+                    bytes[size++] = (byte) (0xF0 | (codePoint >> 18));
+                    bytes[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    bytes[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    bytes[size++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else if (c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE) {
+                    bytes[size++] = '?';
+                } else {
+                    bytes[size++] = (byte) (0xE0 | (c >> 12));
+                    bytes[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    bytes[size++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            return size;
+        }
+    }
+}
@@ -8,17 +8,43 @@ import com.google.gson.internal.ConstructorConstructor;
 import com.google.gson.internal.ObjectConstructor;
 import com.google.gson.reflect.TypeToken;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
 import java.lang.reflect.Type;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A {@link TypeAdapterFactory} to handle {@link com.github.gfx.static_gson.annotation.JsonSerializable}.
  */
 public class StaticGsonTypeAdapterFactory implements TypeAdapterFactory {
 
+    private static final StaticGsonIndex EMPTY_INDEX = new StaticGsonIndex() {
+        @Override
+        public boolean contains(Class<?> type) {
+            return false;
+        }
+
+        @Override
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken, ObjectConstructor<T> objectConstructor) {
+            return null;
+        }
+    };
+
+    /**
+     * Class loader to its package names to a {@link ClassNameIndex} backing the generated index, if any.
+     *
+     * The indexes refer to classes of their class loader, so they are held softly not to keep it from being collected.
+     * {@link ClassValue} would do it without {@link WeakHashMap}, but Android doesn't have it.
+     */
+    private static final Map<ClassLoader, Reference<ConcurrentMap<String, StaticGsonIndex>>> indexes
+            = Collections.synchronizedMap(
+            new WeakHashMap<ClassLoader, Reference<ConcurrentMap<String, StaticGsonIndex>>>());
+
     private final ConstructorConstructor constructorConstructor;
 
     public StaticGsonTypeAdapterFactory() {
@@ -35,6 +61,14 @@ public class StaticGsonTypeAdapterFactory implements TypeAdapterFactory {
         return modelClassName + "_StaticGsonTypeAdapter";
     }
 
+    public static String getIndexName(String packageName) {
+        return packageName.isEmpty() ? "_StaticGsonIndex" : packageName + "._StaticGsonIndex";
+    }
+
+    /**
+     * @deprecated Use {@link #isStaticGsonType(Class)}, which does not need a class loader lookup.
+     */
+    @Deprecated
     public static boolean isStaticGsonType(String typeName) {
         String name = StaticGsonTypeAdapterFactory.getTypeAdapterFactoryName(typeName);
         try {
@@ -45,28 +79,75 @@ public class StaticGsonTypeAdapterFactory implements TypeAdapterFactory {
         }
     }
 
-    @SuppressWarnings("unchecked")
-    @Override
-    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
-        String name = getTypeAdapterFactoryName(typeToken.getRawType().getName());
-        Class<?> typeAdapterClass;
-        try {
-            typeAdapterClass = Class.forName(name);
-        } catch (ClassNotFoundException e) {
-            return null;
+    public static boolean isStaticGsonType(Class<?> type) {
+        return getIndex(type).contains(type);
+    }
+
+    private static StaticGsonIndex getIndex(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.getClassLoader() == null) {
+            // bootstrap classes such as java.lang.String never have generated type adapters
+            return EMPTY_INDEX;
         }
 
-        Constructor<TypeAdapter<T>> constructor;
+        String className = type.getName();
+        int lastDot = className.lastIndexOf('.');
+        String packageName = lastDot == -1 ? "" : className.substring(0, lastDot);
+
+        ConcurrentMap<String, StaticGsonIndex> packageIndexes = getPackageIndexes(type.getClassLoader());
+        StaticGsonIndex index = packageIndexes.get(packageName);
+        if (index == null) {
+            index = loadIndex(packageName, type.getClassLoader());
+            StaticGsonIndex existing = packageIndexes.putIfAbsent(packageName, index);
+            if (existing != null) {
+                index = existing;
+            }
+        }
+        return index;
+    }
+
+    private static ConcurrentMap<String, StaticGsonIndex> getPackageIndexes(ClassLoader classLoader) {
+        synchronized (indexes) {
+            Reference<ConcurrentMap<String, StaticGsonIndex>> ref = indexes.get(classLoader);
+            ConcurrentMap<String, StaticGsonIndex> packageIndexes = ref != null ? ref.get() : null;
+            if (packageIndexes == null) {
+                packageIndexes = new ConcurrentHashMap<>();
+                indexes.put(classLoader, new SoftReference<>(packageIndexes));
+            }
+            return packageIndexes;
+        }
+    }
+
+    private static StaticGsonIndex loadIndex(String packageName, ClassLoader classLoader) {
+        String name = getIndexName(packageName);
+        Class<?> indexClass;
         try {
-            constructor = (Constructor<TypeAdapter<T>>) typeAdapterClass.getDeclaredConstructor(Gson.class, TypeToken.class, ObjectConstructor.class);
-        } catch (NoSuchMethodException e) {
-            throw new RuntimeException("Missing constructor constructor(Gson, TypeToken, ObjectConstructor) for " + name, e);
+            indexClass = Class.forName(name, true, classLoader);
+        } catch (ClassNotFoundException e) {
+            // no models, or processed with staticgson.isolating
+            return new ClassNameIndex();
         }
+
         try {
-            ObjectConstructor<T> objectConstructor = constructorConstructor.get(typeToken);
-            return constructor.newInstance(gson, typeToken, objectConstructor);
-        } catch (IllegalAccessException | InstantiationException | ClassCastException | InvocationTargetException e) {
+            return new ClassNameIndex((StaticGsonIndex) indexClass.newInstance());
+        } catch (IllegalAccessException | InstantiationException | ClassCastException e) {
             throw new RuntimeException("Can't create an instance of " + name, e);
         }
     }
+
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+        Class<? super T> rawType = typeToken.getRawType();
+        StaticGsonIndex index = getIndex(rawType);
+        if (!index.contains(rawType)) {
+            return null;
+        }
+
+        // generated enum type adapters don't construct instances
+        ObjectConstructor<T> objectConstructor = rawType.isEnum() ? null : constructorConstructor.get(typeToken);
+        TypeAdapter<T> typeAdapter = index.create(gson, typeToken, objectConstructor);
+        if (Metrics.isTimed() && typeAdapter != null) {
+            return new MetricsTypeAdapter<>(rawType, typeAdapter);
+        }
+        return typeAdapter;
+    }
 }
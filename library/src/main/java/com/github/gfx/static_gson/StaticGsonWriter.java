@@ -0,0 +1,469 @@
+package com.github.gfx.static_gson;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * A {@link JsonWriter} that writes {@link JsonName}s of generated type adapters without escaping them again, and
+ * buffers its output in a {@code char[]} instead of making a call to the underlying {@link Writer} per token.
+ *
+ * It writes the same JSON as {@link JsonWriter} and honors {@link #setLenient(boolean)},
+ * {@link #setHtmlSafe(boolean)} and {@link #setSerializeNulls(boolean)}, but always writes compact JSON:
+ * {@link #setIndent(String)} has no effect. Call {@link #flush()} or {@link #close()} to write the buffered output.
+ *
+ * <pre>{@code
+ * StaticGsonWriter writer = new StaticGsonWriter(out);
+ * gson.toJson(user, User.class, writer);
+ * writer.flush();
+ * }</pre>
+ */
+public class StaticGsonWriter extends JsonWriter {
+
+    private static final int EMPTY_ARRAY = 1;
+
+    private static final int NONEMPTY_ARRAY = 2;
+
+    private static final int EMPTY_OBJECT = 3;
+
+    private static final int DANGLING_NAME = 4;
+
+    private static final int NONEMPTY_OBJECT = 5;
+
+    private static final int EMPTY_DOCUMENT = 6;
+
+    private static final int NONEMPTY_DOCUMENT = 7;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final Writer NO_WRITER = new Writer() {
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    /**
+     * The underlying writer, or {@code null} to keep all the output in {@link #buffer}
+     */
+    private final Writer out;
+
+    private char[] buffer = new char[BUFFER_SIZE];
+
+    private int count;
+
+    private int[] stack = new int[32];
+
+    private int stackSize;
+
+    private String deferredName;
+
+    private JsonName deferredJsonName;
+
+    public StaticGsonWriter(Writer out) {
+        super(out);
+        this.out = out;
+        push(EMPTY_DOCUMENT);
+    }
+
+    /**
+     * Creates a writer that keeps its output in its buffer, for {@link StaticGsonSerializer}.
+     */
+    StaticGsonWriter() {
+        super(NO_WRITER);
+        this.out = null;
+        push(EMPTY_DOCUMENT);
+    }
+
+    /**
+     * Discards the output and the state, so that the writer can write another document.
+     */
+    void reset() {
+        count = 0;
+        stackSize = 0;
+        deferredName = null;
+        deferredJsonName = null;
+        push(EMPTY_DOCUMENT);
+    }
+
+    char[] getBuffer() {
+        return buffer;
+    }
+
+    int getBufferedSize() {
+        return count;
+    }
+
+    /**
+     * Writes {@code name} through {@link StaticGsonWriter#name(JsonName)} if {@code writer} is a
+     * {@link StaticGsonWriter}, or through {@link JsonWriter#name(String)} otherwise.
+     */
+    public static void writeName(JsonWriter writer, JsonName name) throws IOException {
+        if (writer instanceof StaticGsonWriter) {
+            ((StaticGsonWriter) writer).name(name);
+        } else {
+            writer.name(name.name);
+        }
+    }
+
+    /**
+     * Writes {@code value} through {@link StaticGsonWriter#value(JsonName)} if {@code writer} is a
+     * {@link StaticGsonWriter}, or through {@link JsonWriter#value(String)} otherwise.
+     */
+    public static void writeValue(JsonWriter writer, JsonName value) throws IOException {
+        if (writer instanceof StaticGsonWriter) {
+            ((StaticGsonWriter) writer).value(value);
+        } else {
+            writer.value(value.name);
+        }
+    }
+
+    public StaticGsonWriter name(JsonName name) throws IOException {
+        if (name == null) {
+            throw new NullPointerException("name == null");
+        }
+        checkNoDeferredName();
+        deferredJsonName = name;
+        return this;
+    }
+
+    @Override
+    public StaticGsonWriter name(String name) throws IOException {
+        if (name == null) {
+            throw new NullPointerException("name == null");
+        }
+        checkNoDeferredName();
+        deferredName = name;
+        return this;
+    }
+
+    private void checkNoDeferredName() {
+        if (deferredName != null || deferredJsonName != null) {
+            throw new IllegalStateException();
+        }
+        if (stackSize == 0) {
+            throw new IllegalStateException("JsonWriter is closed.");
+        }
+    }
+
+    private void writeDeferredName() throws IOException {
+        if (deferredJsonName != null) {
+            beforeName();
+            write(isHtmlSafe() ? deferredJsonName.htmlSafeQuoted : deferredJsonName.quoted);
+            deferredJsonName = null;
+        } else if (deferredName != null) {
+            beforeName();
+            string(deferredName);
+            deferredName = null;
+        }
+    }
+
+    @Override
+    public StaticGsonWriter beginArray() throws IOException {
+        writeDeferredName();
+        return open(EMPTY_ARRAY, '[');
+    }
+
+    @Override
+    public StaticGsonWriter endArray() throws IOException {
+        return close(EMPTY_ARRAY, NONEMPTY_ARRAY, ']');
+    }
+
+    @Override
+    public StaticGsonWriter beginObject() throws IOException {
+        writeDeferredName();
+        return open(EMPTY_OBJECT, '{');
+    }
+
+    @Override
+    public StaticGsonWriter endObject() throws IOException {
+        return close(EMPTY_OBJECT, NONEMPTY_OBJECT, '}');
+    }
+
+    private StaticGsonWriter open(int empty, char bracket) throws IOException {
+        beforeValue();
+        push(empty);
+        write(bracket);
+        return this;
+    }
+
+    private StaticGsonWriter close(int empty, int nonempty, char bracket) throws IOException {
+        int context = peek();
+        if (context != nonempty && context != empty) {
+            throw new IllegalStateException("Nesting problem.");
+        }
+        if (deferredName != null || deferredJsonName != null) {
+            throw new IllegalStateException("Dangling name: " + (deferredName != null ? deferredName : deferredJsonName));
+        }
+        stackSize--;
+        write(bracket);
+        return this;
+    }
+
+    private void push(int newTop) {
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+        }
+        stack[stackSize++] = newTop;
+    }
+
+    private int peek() {
+        if (stackSize == 0) {
+            throw new IllegalStateException("JsonWriter is closed.");
+        }
+        return stack[stackSize - 1];
+    }
+
+    @Override
+    public StaticGsonWriter value(String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        writeDeferredName();
+        beforeValue();
+        string(value);
+        return this;
+    }
+
+    /**
+     * Writes a string value quoted in advance, such as a constant name of a generated enum type adapter.
+     */
+    public StaticGsonWriter value(JsonName value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        writeDeferredName();
+        beforeValue();
+        write(isHtmlSafe() ? value.htmlSafeQuoted : value.quoted);
+        return this;
+    }
+
+    @Override
+    public StaticGsonWriter jsonValue(String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        writeDeferredName();
+        beforeValue();
+        write(value);
+        return this;
+    }
+
+    @Override
+    public StaticGsonWriter nullValue() throws IOException {
+        if (deferredName != null || deferredJsonName != null) {
+            if (getSerializeNulls()) {
+                writeDeferredName();
+            } else {
+                deferredName = null;
+                deferredJsonName = null;
+                return this; // skip the name and the value
+            }
+        }
+        beforeValue();
+        write("null");
+        return this;
+    }
+
+    @Override
+    public StaticGsonWriter value(boolean value) throws IOException {
+        writeDeferredName();
+        beforeValue();
+        write(value ? "true" : "false");
+        return this;
+    }
+
+    @Override
+    public StaticGsonWriter value(Boolean value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        return value(value.booleanValue());
+    }
+
+    /**
+     * Not declared by Gson 2.8, but overrides {@code JsonWriter#value(float)} of newer versions.
+     */
+    public StaticGsonWriter value(float value) throws IOException {
+        return value(Float.valueOf(value));
+    }
+
+    @Override
+    public StaticGsonWriter value(double value) throws IOException {
+        if (!isLenient() && (Double.isNaN(value) || Double.isInfinite(value))) {
+            throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+        }
+        writeDeferredName();
+        beforeValue();
+        write(Double.toString(value));
+        return this;
+    }
+
+    @Override
+    public StaticGsonWriter value(long value) throws IOException {
+        writeDeferredName();
+        beforeValue();
+        write(Long.toString(value));
+        return this;
+    }
+
+    @Override
+    public StaticGsonWriter value(Number value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+
+        writeDeferredName();
+        String string = value.toString();
+        if (!isLenient() && (string.equals("-Infinity") || string.equals("Infinity") || string.equals("NaN"))) {
+            throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+        }
+        beforeValue();
+        write(string);
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (stackSize == 0) {
+            throw new IllegalStateException("JsonWriter is closed.");
+        }
+        flushBuffer();
+        if (out != null) {
+            out.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flushBuffer();
+        if (out != null) {
+            out.close();
+        }
+
+        int size = stackSize;
+        if (size > 1 || size == 1 && stack[size - 1] != NONEMPTY_DOCUMENT) {
+            throw new IOException("Incomplete document");
+        }
+        stackSize = 0;
+    }
+
+    private void beforeName() throws IOException {
+        int context = peek();
+        if (context == NONEMPTY_OBJECT) {
+            write(',');
+        } else if (context != EMPTY_OBJECT) {
+            throw new IllegalStateException("Nesting problem.");
+        }
+        stack[stackSize - 1] = DANGLING_NAME;
+    }
+
+    private void beforeValue() throws IOException {
+        switch (peek()) {
+            case NONEMPTY_DOCUMENT:
+                if (!isLenient()) {
+                    throw new IllegalStateException("JSON must have only one top-level value.");
+                }
+                break;
+            case EMPTY_DOCUMENT:
+                stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+                break;
+            case EMPTY_ARRAY:
+                stack[stackSize - 1] = NONEMPTY_ARRAY;
+                break;
+            case NONEMPTY_ARRAY:
+                write(',');
+                break;
+            case DANGLING_NAME:
+                write(':');
+                stack[stackSize - 1] = NONEMPTY_OBJECT;
+                break;
+            default:
+                throw new IllegalStateException("Nesting problem.");
+        }
+    }
+
+    private void string(String value) throws IOException {
+        String[] replacements = isHtmlSafe() ? JsonName.HTML_SAFE_REPLACEMENT_CHARS : JsonName.REPLACEMENT_CHARS;
+        int length = value.length();
+        require(length + 2);
+        char[] buffer = this.buffer;
+        int count = this.count;
+        buffer[count++] = '"';
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            String replacement;
+            if (c < 128) {
+                replacement = replacements[c];
+                if (replacement == null) {
+                    buffer[count++] = c;
+                    continue;
+                }
+            } else if (c == '\u2028') {
+                replacement = "\\u2028";
+            } else if (c == '\u2029') {
+                replacement = "\\u2029";
+            } else {
+                buffer[count++] = c;
+                continue;
+            }
+            this.count = count;
+            // the replacement, the rest of the value and the closing quote
+            require(replacement.length() + length - i);
+            buffer = this.buffer;
+            count = this.count;
+            replacement.getChars(0, replacement.length(), buffer, count);
+            count += replacement.length();
+        }
+        buffer[count++] = '"';
+        this.count = count;
+    }
+
+    private void write(char c) throws IOException {
+        require(1);
+        buffer[count++] = c;
+    }
+
+    private void write(char[] chars) throws IOException {
+        require(chars.length);
+        System.arraycopy(chars, 0, buffer, count, chars.length);
+        count += chars.length;
+    }
+
+    private void write(String string) throws IOException {
+        int length = string.length();
+        require(length);
+        string.getChars(0, length, buffer, count);
+        count += length;
+    }
+
+    /**
+     * Makes room for {@code size} chars, writing the buffer to {@link #out} or growing it if it is full.
+     */
+    private void require(int size) throws IOException {
+        if (count + size <= buffer.length) {
+            return;
+        }
+        flushBuffer();
+        if (count + size > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(count + size, buffer.length * 2));
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (out != null && count > 0) {
+            out.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.gfx.static_gson;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free counter whose updates are spread over cells by thread, so that threads counting at the same time rarely
+ * contend for a cache line. {@code java.util.concurrent.atomic.LongAdder} does the same, but Android has it only since
+ * API 24.
+ */
+final class StripedCounter {
+
+    /**
+     * Cells are 8 longs, or 64 bytes, apart, so that two of them never share a cache line
+     */
+    private static final int PADDING = 8;
+
+    private static final int STRIPES = computeStripes();
+
+    private final AtomicLongArray cells = new AtomicLongArray(STRIPES * PADDING);
+
+    private static int computeStripes() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        int stripes = 1;
+        while (stripes < processors && stripes < 64) {
+            stripes <<= 1;
+        }
+        return stripes;
+    }
+
+    private static int cellIndex() {
+        // thread IDs are sequential, so they are scrambled to spread neighbors
+        long hash = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+        return ((int) (hash >>> 32) & (STRIPES - 1)) * PADDING;
+    }
+
+    void add(long delta) {
+        cells.getAndAdd(cellIndex(), delta);
+    }
+
+    void increment() {
+        add(1);
+    }
+
+    /**
+     * @return The sum of the cells, which may miss updates made while it runs
+     */
+    long sum() {
+        long sum = 0;
+        for (int i = 0; i < cells.length(); i += PADDING) {
+            sum += cells.get(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.gfx.static_gson;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+
+/**
+ * Entry points to parse JSON in UTF-8 bytes with the same rules as {@link Gson#fromJson(java.io.Reader, Type)}.
+ *
+ * @see Utf8Reader
+ */
+public final class Utf8Json {
+
+    private Utf8Json() {
+    }
+
+    public static <T> T fromJson(Gson gson, byte[] json, Class<T> classOfT) throws JsonSyntaxException, JsonIOException {
+        return gson.fromJson(new Utf8Reader(json), classOfT);
+    }
+
+    public static <T> T fromJson(Gson gson, byte[] json, Type typeOfT) throws JsonSyntaxException, JsonIOException {
+        return gson.fromJson(new Utf8Reader(json), typeOfT);
+    }
+
+    /**
+     * Parses the remaining bytes of {@code json} without changing its position.
+     */
+    public static <T> T fromJson(Gson gson, ByteBuffer json, Class<T> classOfT) throws JsonSyntaxException, JsonIOException {
+        return gson.fromJson(new Utf8Reader(json), classOfT);
+    }
+
+    /**
+     * Parses the remaining bytes of {@code json} without changing its position.
+     */
+    public static <T> T fromJson(Gson gson, ByteBuffer json, Type typeOfT) throws JsonSyntaxException, JsonIOException {
+        return gson.fromJson(new Utf8Reader(json), typeOfT);
+    }
+}
@@ -0,0 +1,146 @@
+package com.github.gfx.static_gson;
+
+import java.io.Reader;
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes UTF-8 bytes in memory, without the {@code InputStream} and {@code CharsetDecoder} layers of
+ * {@link java.io.InputStreamReader}. ASCII, which is most of JSON, is copied byte by byte.
+ *
+ * Malformed input is replaced with U+FFFD as {@link java.io.InputStreamReader} does, so both read the same text.
+ *
+ * @see Utf8Json
+ */
+public final class Utf8Reader extends Reader {
+
+    private static final char REPLACEMENT = '\uFFFD';
+
+    private final byte[] bytes;
+
+    private final int limit;
+
+    private int pos;
+
+    /**
+     * The low surrogate of a supplementary character that didn't fit in the last read
+     */
+    private char pendingLowSurrogate;
+
+    public Utf8Reader(byte[] bytes) {
+        this(bytes, 0, bytes.length);
+    }
+
+    public Utf8Reader(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IndexOutOfBoundsException("offset=" + offset + ", length=" + length + ", size=" + bytes.length);
+        }
+        this.bytes = bytes;
+        this.pos = offset;
+        this.limit = offset + length;
+    }
+
+    /**
+     * Reads the remaining bytes of {@code buffer} without changing its position. Buffers without an accessible array,
+     * such as direct buffers, are copied.
+     */
+    public Utf8Reader(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            this.bytes = buffer.array();
+            this.pos = buffer.arrayOffset() + buffer.position();
+            this.limit = pos + buffer.remaining();
+        } else {
+            this.bytes = new byte[buffer.remaining()];
+            buffer.duplicate().get(bytes);
+            this.pos = 0;
+            this.limit = bytes.length;
+        }
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        int i = off;
+        int end = off + len;
+        if (pendingLowSurrogate != 0) {
+            cbuf[i++] = pendingLowSurrogate;
+            pendingLowSurrogate = 0;
+        }
+
+        byte[] bytes = this.bytes;
+        int p = pos;
+        while (i < end && p < limit) {
+            int b = bytes[p];
+            if (b >= 0) {
+                // ASCII
+                int asciiEnd = Math.min(limit, p + end - i);
+                do {
+                    cbuf[i++] = (char) b;
+                    p++;
+                } while (p < asciiEnd && (b = bytes[p]) >= 0);
+                continue;
+            }
+
+            int codePoint;
+            int size;
+            int secondMin = 0x80;
+            int secondMax = 0xBF;
+            b &= 0xFF;
+            if (b >= 0xC2 && b <= 0xDF) {
+                codePoint = b & 0x1F;
+                size = 2;
+            } else if (b >= 0xE0 && b <= 0xEF) {
+                codePoint = b & 0x0F;
+                size = 3;
+                if (b == 0xE0) {
+                    secondMin = 0xA0; // overlong
+                }
+            } else if (b >= 0xF0 && b <= 0xF4) {
+                codePoint = b & 0x07;
+                size = 4;
+                if (b == 0xF0) {
+                    secondMin = 0x90; // overlong
+                } else if (b == 0xF4) {
+                    secondMax = 0x8F; // beyond U+10FFFF
+                }
+            } else {
+                cbuf[i++] = REPLACEMENT;
+                p++;
+                continue;
+            }
+
+            // replaces the longest valid prefix of a malformed sequence with a single U+FFFD
+            int n = 1;
+            for (; n < size && p + n < limit; n++) {
+                int c = bytes[p + n] & 0xFF;
+                if (n == 1 ? (c < secondMin || c > secondMax) : (c & 0xC0) != 0x80) {
+                    break;
+                }
+                codePoint = (codePoint << 6) | (c & 0x3F);
+            }
+            p += n;
+            if (n < size || (codePoint >= 0xD800 && codePoint <= 0xDFFF)) {
+                // an encoded surrogate is replaced as a whole
+                cbuf[i++] = REPLACEMENT;
+            } else if (size < 4) {
+                cbuf[i++] = (char) codePoint;
+            } else {
+                codePoint -= 0x10000;
+                cbuf[i++] = (char) (0xD800 | (codePoint >>> 10));
+                char low = (char) (0xDC00 | (codePoint & 0x3FF));
+                if (i < end) {
+                    cbuf[i++] = low;
+                } else {
+                    pendingLowSurrogate = low;
+                }
+            }
+        }
+        pos = p;
+        return i == off ? -1 : i - off;
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.gfx.static_gson;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.internal.ObjectConstructor;
+import com.google.gson.reflect.TypeToken;
+
+import com.github.gfx.static_gson.model.Book;
+
+import org.junit.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+/**
+ * @see ClassNameIndex
+ */
+public class ClassNameIndexTest {
+
+    Gson gson = new GsonBuilder()
+            .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+            .create();
+
+    TypeAdapter<Book> bookAdapter = gson.getAdapter(Book.class);
+
+    @Test
+    public void findTypeAdaptersByClassName() throws Exception {
+        ClassNameIndex index = new ClassNameIndex();
+
+        assertThat(index.contains(Book.class), is(true));
+        assertThat(index.contains(Book.Author.class), is(true));
+        assertThat(index.contains(ClassNameIndexTest.class), is(false));
+        assertThat(index.create(gson, TypeToken.get(ClassNameIndexTest.class), null), is(nullValue()));
+
+        TypeAdapter<Book.Author> adapter = index.create(gson, TypeToken.get(Book.Author.class), Book.Author::new);
+        assertThat(adapter.fromJson("{\"name\":\"foo\"}").name, is("foo"));
+    }
+
+    @Test
+    public void findTypeAdaptersMissingInGeneratedIndex() throws Exception {
+        // e.g. the index of the same package in another module, which lacks Book.Author
+        StaticGsonIndex generatedIndex = new StaticGsonIndex() {
+            @Override
+            public boolean contains(Class<?> type) {
+                return type == Book.class;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken,
+                    ObjectConstructor<T> objectConstructor) {
+                return (TypeAdapter<T>) bookAdapter;
+            }
+        };
+        ClassNameIndex index = new ClassNameIndex(generatedIndex);
+
+        assertThat(index.contains(Book.class), is(true));
+        assertThat(index.create(gson, TypeToken.get(Book.class), Book::new), is(sameInstance(bookAdapter)));
+
+        assertThat(index.contains(Book.Author.class), is(true));
+        TypeAdapter<Book.Author> adapter = index.create(gson, TypeToken.get(Book.Author.class), Book.Author::new);
+        assertThat(adapter.fromJson("{\"name\":\"foo\"}").name, is("foo"));
+
+        assertThat(index.contains(ClassNameIndexTest.class), is(false));
+    }
+
+    @Test
+    public void findTypeAdaptersOfEachClassLoader() throws Exception {
+        // e.g. a plugin that bundles its own copy of the models
+        URL location = Book.class.getProtectionDomain().getCodeSource().getLocation();
+        ClassLoader classLoader = new URLClassLoader(new URL[]{location}, getClass().getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                if (!name.startsWith(Book.class.getPackage().getName() + ".")) {
+                    return super.loadClass(name, resolve);
+                }
+                synchronized (getClassLoadingLock(name)) {
+                    Class<?> type = findLoadedClass(name);
+                    return type != null ? type : findClass(name);
+                }
+            }
+        };
+        Class<?> bookClass = classLoader.loadClass(Book.class.getName());
+        assertThat(bookClass, is(not(sameInstance((Object) Book.class))));
+
+        assertThat(StaticGsonTypeAdapterFactory.isStaticGsonType(Book.class), is(true));
+        assertThat(StaticGsonTypeAdapterFactory.isStaticGsonType(bookClass), is(true));
+        assertThat(gson.getAdapter(bookClass).getClass().getClassLoader(), is(classLoader));
+        assertThat(bookAdapter.getClass().getClassLoader(), is(Book.class.getClassLoader()));
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.gfx.static_gson;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.annotations.SerializedName;
+
+import com.github.gfx.static_gson.annotation.JsonSerializable;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+/**
+ * @see StaticGsonTypeAdapterFactory
+ */
+public class EnumTest {
+
+    Gson gson;
+
+    List<String> logs;
+
+    @Before
+    public void setUp() throws Exception {
+        gson = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                .registerTypeAdapterFactory(new CollectionTypeAdapterFactory())
+                .create();
+
+        logs = new ArrayList<>();
+        Logger.setDelegate(ex -> logs.add(ex.getMessage()));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        Logger.setDelegate(null);
+    }
+
+    @Test
+    public void useGeneratedTypeAdapters() throws Exception {
+        assertThat(gson.getAdapter(Status.class).getClass().getSimpleName(),
+                is("EnumTest$Status_StaticGsonTypeAdapter"));
+    }
+
+    @Test
+    public void serialize() throws Exception {
+        Task task = new Task();
+        task.status = Status.DONE;
+        task.history = Arrays.asList(Status.TODO, Status.IN_PROGRESS, null);
+
+        assertThat(gson.toJson(task), is("{\"status\":\"done\",\"history\":[\"TODO\",\"in progress\",null]}"));
+    }
+
+    @Test
+    public void deserialize() throws Exception {
+        Task task = gson.fromJson("{\"status\":\"finished\",\"history\":[\"TODO\",\"in progress\",null]}", Task.class);
+
+        assertThat(task.status, is(Status.DONE));
+        assertThat(task.history, is(Arrays.asList(Status.TODO, Status.IN_PROGRESS, null)));
+        assertThat(logs.isEmpty(), is(true));
+    }
+
+    @Test
+    public void deserializeUnknownConstantsAsNull() throws Exception {
+        Task task = gson.fromJson("{\"status\":\"cancelled\",\"history\":[\"TODO\",\"\\u00e9\"]}", Task.class);
+
+        assertThat(task.status, is(nullValue()));
+        assertThat(task.history, is(Arrays.asList(Status.TODO, null)));
+        assertThat(logs.size(), is(2));
+        assertThat(logs.get(0),
+                is("Unknown constant \"cancelled\" of com.github.gfx.static_gson.EnumTest$Status at $.status"));
+    }
+
+    @Test
+    public void skipNonStringValues() throws Exception {
+        Task task = gson.fromJson("{\"status\":{\"name\":\"done\"},\"history\":[\"TODO\"]}", Task.class);
+
+        assertThat(task.status, is(nullValue()));
+        assertThat(task.history, is(Arrays.asList(Status.TODO)));
+        assertThat(logs.size(), is(1));
+    }
+
+    public enum Status {
+        TODO,
+
+        @SerializedName("in progress")
+        IN_PROGRESS,
+
+        @SerializedName(value = "done", alternate = {"finished"})
+        DONE,
+    }
+
+    @JsonSerializable
+    public static class Task {
+
+        public Status status;
+
+        public List<Status> history;
+    }
+}
@@ -64,12 +64,29 @@ public class GracefulFailureTest {
 
         Exception ex = throwsException(() -> gson.fromJson(json, StrictStringModel.class));
         assertThat(ex, instanceOf(JsonGracefulException.class));
+        assertThat(ex.getMessage(), is(ex.getCause().toString()));
 
         // test that strict can be null
         StrictStringModel strictNullResult = gson.fromJson(new JSONObject().toString(), StrictStringModel.class);
         assertThat(strictNullResult.nullable, nullValue());
     }
 
+    @Test
+    public void buildMessageFromCauseLazily() throws Exception {
+        int[] calls = {0};
+        Exception cause = new IllegalStateException("bad") {
+            @Override
+            public String toString() {
+                calls[0]++;
+                return super.toString();
+            }
+        };
+
+        JsonGracefulException ex = new JsonGracefulException(cause);
+        assertThat(calls[0], is(0));
+        assertThat(ex.getMessage(), is(cause.toString()));
+    }
+
     @JsonSerializable
     public static class StrictStringModel {
         @JsonStrict
@@ -690,6 +707,57 @@ public class GracefulFailureTest {
     }
 
 
+    @Test
+    public void deserializeOutOfRangeNumbers() throws Exception {
+        // Values are range checked instead of truncated, and the next field is still read
+        String json = "{\"i\":3000000000,\"a\":1,\"s\":40000,\"b\":2,\"bt\":\"200\",\"c\":3,\"f\":1e39,\"d\":4}";
+
+        NarrowNumberModel result = gson.fromJson(json, NarrowNumberModel.class);
+        assertThat(result.i, is(0));
+        assertThat(result.s, is((short) 0));
+        assertThat(result.bt, is((byte) 0));
+        assertThat(result.f, is(0.f));
+        assertThat(result.a + result.b + result.c + result.d, is(10));
+
+        Exception ex = throwsException(() -> gson.fromJson("{\"strict\":-40000}", NarrowNumberModel.class));
+        assertThat(ex, instanceOf(JsonGracefulException.class));
+        assertThat(ex.getCause().getMessage(), is("Expecting a short but was -40000 at $.strict"));
+
+        ex = throwsException(() -> gson.fromJson("{\"strictInt\":3000000000}", NarrowNumberModel.class));
+        assertThat(ex, instanceOf(JsonGracefulException.class));
+        assertThat(ex.getCause().getMessage(), is("Expecting an int but was 3000000000 at $.strictInt"));
+    }
+
+    @Test
+    public void deserializeNumericStrings() throws Exception {
+        String json = "{\"i\":\"-42\",\"s\":\"1.0\",\"bt\":\"127\",\"f\":\"1.5\",\"a\":\"1.5\",\"b\":1}";
+
+        NarrowNumberModel result = gson.fromJson(json, NarrowNumberModel.class);
+        assertThat(result.i, is(-42));
+        assertThat(result.s, is((short) 1));
+        assertThat(result.bt, is((byte) 127));
+        assertThat(result.f, is(1.5f));
+        assertThat(result.a, is(0));
+        assertThat(result.b, is(1));
+    }
+
+    @JsonSerializable()
+    public static class NarrowNumberModel {
+        public int i;
+        public short s;
+        public byte bt;
+        public float f;
+        public int a;
+        public int b;
+        public int c;
+        public int d;
+        @JsonStrict
+        public short strict;
+        @JsonStrict
+        public int strictInt;
+    }
+
+
     @Test
     public void deserializeLong() throws Exception {
         // Expected Long but provided string
@@ -917,6 +985,40 @@ public class GracefulFailureTest {
         }
     }
 
+    @Test
+    public void deserializePartialPrimitiveArrays() throws Exception {
+
+        // bad items are between good ones
+        String json = new JSONObject()
+                .put("ints", new JSONArray().put(1).put(new JSONObject()).put("2").put(1.5).put(3))
+                .put("longs", new JSONArray().put(1L).put(true).put(Long.MAX_VALUE))
+                .put("doubles", new JSONArray().put(1.5).put(new JSONArray()).put("2.5"))
+                .put("booleans", new JSONArray().put(true).put("bad").put(0).put(new JSONObject()).put("true"))
+                .toString();
+
+        PrimitiveArrays result = gson.fromJson(json, PrimitiveArrays.class);
+
+        // gracefully skips the bad items
+        assertThat(result.ints, is(new int[]{1, 2, 3}));
+        assertThat(result.longs, is(new long[]{1L, Long.MAX_VALUE}));
+        assertThat(result.doubles, is(new double[]{1.5, 2.5}));
+        assertThat(result.booleans, is(new boolean[]{true, false, true}));
+
+        assertThat(gson.toJson(result),
+                is("{\"ints\":[1,2,3],\"longs\":[1,9223372036854775807],\"doubles\":[1.5,2.5],\"booleans\":[true,false,true]}"));
+    }
+
+    @JsonSerializable()
+    static class PrimitiveArrays {
+        int[] ints;
+
+        long[] longs;
+
+        double[] doubles;
+
+        boolean[] booleans;
+    }
+
 
     @Test
     public void deserializePrivateModel() throws Exception {
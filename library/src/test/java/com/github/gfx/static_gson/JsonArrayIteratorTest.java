@@ -0,0 +1,97 @@
+package com.github.gfx.static_gson;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+
+import com.github.gfx.static_gson.model.Book;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.junit.Assert.fail;
+
+/**
+ * @see JsonArrayIterator
+ */
+public class JsonArrayIteratorTest {
+
+    Gson gson;
+
+    @Before
+    public void setUp() throws Exception {
+        gson = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                .create();
+    }
+
+    JsonArrayIterator<Book.Author> iterate(String json) {
+        return new JsonArrayIterator<>(gson, Book.Author.class, gson.newJsonReader(new StringReader(json)));
+    }
+
+    static <T> List<T> toList(JsonArrayIterator<T> iterator) {
+        List<T> list = new ArrayList<>();
+        while (iterator.hasNext()) {
+            list.add(iterator.next());
+        }
+        return list;
+    }
+
+    @Test
+    public void readsElementsOneByOne() throws Exception {
+        JsonArrayIterator<Book.Author> iterator = iterate("[{\"name\":\"foo\"},{\"name\":\"bar\"}]");
+
+        assertThat(iterator.hasNext(), is(true));
+        assertThat(iterator.hasNext(), is(true));
+        assertThat(iterator.next(), is(Book.Author.create("foo")));
+        assertThat(iterator.next(), is(Book.Author.create("bar")));
+        assertThat(iterator.hasNext(), is(false));
+
+        try {
+            iterator.next();
+            fail();
+        } catch (NoSuchElementException expected) {
+        }
+    }
+
+    @Test
+    public void skipsBrokenElements() throws Exception {
+        JsonArrayIterator<Book.Author> iterator = iterate("[\"bad\",{\"name\":\"foo\"},[1,2],{\"name\":\"bar\"},42]");
+
+        assertThat(toList(iterator), is(Arrays.asList(Book.Author.create("foo"), Book.Author.create("bar"))));
+    }
+
+    @Test
+    public void keepsNullElements() throws Exception {
+        JsonArrayIterator<Book.Author> iterator = iterate("[null,{\"name\":\"foo\"}]");
+
+        assertThat(toList(iterator), is(Arrays.asList(null, Book.Author.create("foo"))));
+    }
+
+    @Test
+    public void readsNullAsEmpty() throws Exception {
+        assertThat(iterate("null").hasNext(), is(false));
+        assertThat(iterate("[]").hasNext(), is(false));
+    }
+
+    @Test
+    public void throwsFailuresOfNonStaticGsonTypes() throws Exception {
+        JsonArrayIterator<Integer> iterator = new JsonArrayIterator<>(gson, Integer.class,
+                gson.newJsonReader(new StringReader("[1,\"bad\",3]")));
+
+        assertThat(iterator.next(), is(1));
+        try {
+            iterator.next();
+            fail();
+        } catch (JsonSyntaxException expected) {
+        }
+    }
+}
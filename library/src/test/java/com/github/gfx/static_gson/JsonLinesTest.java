@@ -0,0 +1,113 @@
+package com.github.gfx.static_gson;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import com.github.gfx.static_gson.model.Book;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+/**
+ * @see JsonLinesReader
+ * @see JsonLinesWriter
+ */
+public class JsonLinesTest {
+
+    Gson gson;
+
+    List<String> logs;
+
+    @Before
+    public void setUp() throws Exception {
+        gson = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                .setPrettyPrinting()
+                .create();
+
+        logs = new ArrayList<>();
+        Logger.setDelegate(ex -> logs.add(ex.getMessage()));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        Logger.setDelegate(null);
+    }
+
+    List<Book.Author> read(String lines) {
+        List<Book.Author> authors = new ArrayList<>();
+        JsonLinesReader<Book.Author> reader = new JsonLinesReader<>(gson, Book.Author.class, new StringReader(lines));
+        while (reader.hasNext()) {
+            authors.add(reader.next());
+        }
+        return authors;
+    }
+
+    @Test
+    public void readLines() throws Exception {
+        List<Book.Author> authors = read("{\"name\":\"foo\"}\n\n  \r\n{\"name\":\"bar\"}\r\nnull\n{\"name\":\"baz\"}");
+
+        assertThat(authors, is(Arrays.asList(
+                Book.Author.create("foo"), Book.Author.create("bar"), null, Book.Author.create("baz"))));
+        assertThat(logs.isEmpty(), is(true));
+    }
+
+    @Test
+    public void skipBrokenLines() throws Exception {
+        List<Book.Author> authors = read("{\"name\":\n"
+                + "{\"name\":\"foo\"}\n"
+                + "\"bad\"\n"
+                + "{\"name\":\"bar\"}\n"
+                + "[1,2\n"
+                + "{\"name\":\"baz\"}\n"
+                + "{\"name\":\"truncated");
+
+        assertThat(authors, is(Arrays.asList(
+                Book.Author.create("foo"), Book.Author.create("bar"), Book.Author.create("baz"))));
+        assertThat(logs, is(Arrays.asList("Skipped line 1", "Skipped line 3", "Skipped line 5", "Skipped line 7")));
+    }
+
+    @Test
+    public void skipLinesWithTrailingContent() throws Exception {
+        List<Book.Author> authors = read("{\"name\":\"foo\"} xyz\n"
+                + "{\"name\":\"bar\"}  \n"
+                + "{\"name\":\"baz\"} }\n"
+                + "{\"name\":\"qux\"}");
+
+        assertThat(authors, is(Arrays.asList(Book.Author.create("bar"), Book.Author.create("qux"))));
+        assertThat(logs, is(Arrays.asList("Skipped line 1", "Skipped line 3")));
+    }
+
+    @Test
+    public void skipLinesWithTwoValues() throws Exception {
+        List<Book.Author> authors = read("{\"name\":\"foo\"} {\"name\":\"foo2\"}\n"
+                + "{\"name\":\"bar\"}\n"
+                + "null null\n"
+                + "{\"name\":\"baz\"}");
+
+        assertThat(authors, is(Arrays.asList(Book.Author.create("bar"), Book.Author.create("baz"))));
+        assertThat(logs, is(Arrays.asList("Skipped line 1", "Skipped line 3")));
+    }
+
+    @Test
+    public void writeLines() throws Exception {
+        StringWriter out = new StringWriter();
+        JsonLinesWriter<Book.Author> writer = new JsonLinesWriter<>(gson, Book.Author.class, out);
+        writer.write(Book.Author.create("foo"));
+        writer.write(Book.Author.create("bar"));
+        writer.close();
+
+        assertThat(out.toString(), is("{\"name\":\"foo\"}\n{\"name\":\"bar\"}\n"));
+        assertThat(read(out.toString()), is(Arrays.asList(Book.Author.create("foo"), Book.Author.create("bar"))));
+    }
+}
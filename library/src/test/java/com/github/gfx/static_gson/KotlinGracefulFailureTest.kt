@@ -1045,6 +1045,27 @@ class KotlinGracefulFailureTest {
 
     )
 
+    @Test
+    fun deserializeWithPrimaryConstructor() {
+        jsonString("id" to 1, "name" to "bar", "tags" to jsonArray("y"))
+                .toModel<PartialDefaults>()
+                .assert(equalTo(PartialDefaults(1, "bar", listOf("y"))))
+
+        // missing, null and invalid values are defaulted
+        jsonString("id" to 1)
+                .toModel<PartialDefaults>()
+                .assert(equalTo(PartialDefaults(1)))
+        jsonString("id" to 1, "name" to null, "tags" to JSONObject())
+                .toModel<PartialDefaults>()
+                .assert(equalTo(PartialDefaults(1)))
+
+        assertThat(throwsException { fromJson<PartialDefaults>(jsonString("name" to "bar")) },
+                instanceOf<JsonGracefulException>())
+    }
+
+    @JsonSerializable
+    data class PartialDefaults(val id: Int, val name: String = "foo", val tags: List<String> = listOf("x"))
+
     /*
     This allow asserting multiple exceptions within a test
  */
@@ -0,0 +1,58 @@
+package com.github.gfx.static_gson;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+
+import com.github.gfx.static_gson.model.Book;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+/**
+ * @see LazyTypeAdapter
+ */
+public class LazyTypeAdapterTest {
+
+    Gson gson;
+
+    AtomicInteger authorAdapterCount;
+
+    @Before
+    public void setUp() throws Exception {
+        authorAdapterCount = new AtomicInteger();
+        // Gson asks the factories registered later first, so this one sees every lookup of Book.Author
+        gson = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                .registerTypeAdapterFactory(new TypeAdapterFactory() {
+                    @Override
+                    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+                        if (type.getRawType() == Book.Author.class) {
+                            authorAdapterCount.incrementAndGet();
+                        }
+                        return null;
+                    }
+                })
+                .create();
+    }
+
+    @Test
+    public void resolvesDelegateOnFirstUse() throws Exception {
+        TypeAdapter<Book.Author> adapter = LazyTypeAdapter.of(gson, TypeToken.get(Book.Author.class));
+        assertThat(authorAdapterCount.get(), is(0));
+
+        Book.Author author = adapter.fromJson("{\"name\":\"foo\"}");
+        assertThat(author, is(Book.Author.create("foo")));
+        assertThat(authorAdapterCount.get(), is(1));
+
+        assertThat(adapter.toJson(author), is("{\"name\":\"foo\"}"));
+        assertThat(authorAdapterCount.get(), is(1));
+    }
+}
@@ -3,12 +3,17 @@ package com.github.gfx.static_gson;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.LongSerializationPolicy;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 import com.github.gfx.static_gson.annotation.JsonSerializable;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.IOException;
+
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.*;
 
@@ -31,9 +36,63 @@ public class LongSerializationPolicyTest {
         assertThat(gson.toJson(model), is("{\"value\":\"" + Long.MAX_VALUE + "\"}"));
     }
 
+    @Test
+    public void serializeBoxedLong() throws Exception {
+        Timestamps model = Timestamps.create();
+        assertThat(gson.toJson(model), is("{\"createdAt\":\"1\",\"updatedAt\":\"2\"}"));
+        assertThat(gson.fromJson(gson.toJson(model), Timestamps.class).updatedAt, is(2L));
+    }
+
+    @Test
+    public void serializeWithDefaultPolicy() throws Exception {
+        Gson gson = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                .serializeNulls()
+                .create();
+        // generated adapters write nulls only with @JsonSerializable(serializeNulls = true)
+        assertThat(gson.toJson(Timestamps.create()), is("{\"createdAt\":1,\"updatedAt\":2}"));
+    }
+
+    @Test
+    public void serializeWithLongAdapters() throws Exception {
+        Gson gson = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                .registerTypeAdapter(Long.class, new TypeAdapter<Long>() {
+                    @Override
+                    public void write(JsonWriter out, Long value) throws IOException {
+                        out.value("#" + value);
+                    }
+
+                    @Override
+                    public Long read(JsonReader in) throws IOException {
+                        throw new UnsupportedOperationException();
+                    }
+                })
+                .create();
+        // only Long.class is overridden
+        assertThat(gson.toJson(Timestamps.create()), is("{\"createdAt\":1,\"updatedAt\":\"#2\"}"));
+    }
+
     @JsonSerializable
     static class L {
 
         long value;
     }
+
+    @JsonSerializable
+    static class Timestamps {
+
+        long createdAt;
+
+        Long updatedAt;
+
+        Long deletedAt;
+
+        static Timestamps create() {
+            Timestamps model = new Timestamps();
+            model.createdAt = 1;
+            model.updatedAt = 2L;
+            return model;
+        }
+    }
 }
@@ -0,0 +1,162 @@
+package com.github.gfx.static_gson;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+
+import com.github.gfx.static_gson.model.Book;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+/**
+ * @see MapTypeAdapterFactory
+ */
+public class MapTypeAdapterFactoryTest {
+
+    static final Type STRING_KEYS = new TypeToken<Map<String, Book.Author>>() {
+    }.getType();
+
+    static final Type INTEGER_KEYS = new TypeToken<Map<Integer, Book.Author>>() {
+    }.getType();
+
+    static final Type ENUM_KEYS = new TypeToken<Map<EnumTest.Status, Book.Author>>() {
+    }.getType();
+
+    Gson gson;
+
+    List<String> logs;
+
+    @Before
+    public void setUp() throws Exception {
+        gson = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                .registerTypeAdapterFactory(new MapTypeAdapterFactory())
+                .create();
+
+        logs = new ArrayList<>();
+        Logger.setDelegate(ex -> logs.add(ex.getMessage()));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        Logger.setDelegate(null);
+    }
+
+    static <K> Map<K, Book.Author> authors(K foo, K bar) {
+        Map<K, Book.Author> map = new LinkedHashMap<>();
+        map.put(foo, Book.Author.create("foo"));
+        map.put(bar, Book.Author.create("bar"));
+        return map;
+    }
+
+    @Test
+    public void useOnlyForStaticGsonValues() throws Exception {
+        assertThat(gson.getAdapter(new TypeToken<Map<String, Book.Author>>() {
+        }).getClass().getEnclosingClass(), is((Object) MapTypeAdapterFactory.class));
+        assertThat(gson.getAdapter(new TypeToken<Map<String, String>>() {
+        }).getClass().getEnclosingClass(), is(not((Object) MapTypeAdapterFactory.class)));
+        assertThat(gson.getAdapter(new TypeToken<Map<Book.Author, Book.Author>>() {
+        }).getClass().getEnclosingClass(), is(not((Object) MapTypeAdapterFactory.class)));
+    }
+
+    @Test
+    public void roundTrip() throws Exception {
+        String json = "{\"a\":{\"name\":\"foo\"},\"b\":{\"name\":\"bar\"}}";
+        Map<String, Book.Author> map = gson.fromJson(json, STRING_KEYS);
+
+        assertThat(map, is(authors("a", "b")));
+        assertThat(gson.toJson(map, STRING_KEYS), is(json));
+    }
+
+    @Test
+    public void roundTripPrimitiveKeys() throws Exception {
+        String json = "{\"1\":{\"name\":\"foo\"},\"-2\":{\"name\":\"bar\"}}";
+        Map<Integer, Book.Author> map = gson.fromJson(json, INTEGER_KEYS);
+
+        assertThat(map, is(authors(1, -2)));
+        assertThat(gson.toJson(map, INTEGER_KEYS), is(json));
+    }
+
+    @Test
+    public void roundTripEnumKeys() throws Exception {
+        Map<EnumTest.Status, Book.Author> map = gson.fromJson(
+                "{\"TODO\":{\"name\":\"foo\"},\"finished\":{\"name\":\"bar\"}}", ENUM_KEYS);
+
+        assertThat(map, is(authors(EnumTest.Status.TODO, EnumTest.Status.DONE)));
+        // the same as Gson without complex map key serialization
+        assertThat(gson.toJson(map, ENUM_KEYS), is("{\"TODO\":{\"name\":\"foo\"},\"DONE\":{\"name\":\"bar\"}}"));
+
+        Gson complex = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                .registerTypeAdapterFactory(new MapTypeAdapterFactory(true))
+                .enableComplexMapKeySerialization()
+                .create();
+        assertThat(complex.toJson(map, ENUM_KEYS), is("{\"TODO\":{\"name\":\"foo\"},\"done\":{\"name\":\"bar\"}}"));
+    }
+
+    @Test
+    public void readArrayOfEntries() throws Exception {
+        Map<Integer, Book.Author> map = gson.fromJson("[[1,{\"name\":\"foo\"}],[\"x\",{}],[-2,{\"name\":\"bar\"}]]",
+                INTEGER_KEYS);
+
+        assertThat(map, is(authors(1, -2)));
+        assertThat(logs.size(), is(1));
+    }
+
+    @Test
+    public void skipFailedEntries() throws Exception {
+        Map<String, Book.Author> map = gson.fromJson(
+                "{\"a\":{\"name\":\"foo\"},\"x\":\"string\",\"y\":[{\"name\":\"baz\"}],\"b\":{\"name\":\"bar\"}}",
+                STRING_KEYS);
+
+        assertThat(map, is(authors("a", "b")));
+        assertThat(logs.size(), is(2));
+    }
+
+    @Test
+    public void skipFailedKeys() throws Exception {
+        Map<Integer, Book.Author> map = gson.fromJson(
+                "{\"1\":{\"name\":\"foo\"},\"x\":{\"name\":\"baz\"},\"-2\":{\"name\":\"bar\"}}", INTEGER_KEYS);
+
+        assertThat(map, is(authors(1, -2)));
+        assertThat(logs, is(Collections.singletonList("Expecting a key of Integer but was \"x\" at $.x")));
+    }
+
+    @Test
+    public void logDuplicateKeys() throws Exception {
+        Map<String, Book.Author> map = gson.fromJson(
+                "{\"a\":{\"name\":\"baz\"},\"b\":{\"name\":\"bar\"},\"a\":{\"name\":\"foo\"}}", STRING_KEYS);
+
+        assertThat(map, is(authors("a", "b")));
+        assertThat(logs, is(Collections.singletonList("Duplicate key a at $.a")));
+    }
+
+    @Test
+    public void keepDeclaredMapTypes() throws Exception {
+        String json = "{\"b\":{\"name\":\"bar\"},\"a\":{\"name\":\"foo\"}}";
+
+        assertThat(gson.fromJson(json, new TypeToken<HashMap<String, Book.Author>>() {
+        }.getType()), is(instanceOf(HashMap.class)));
+        assertThat(gson.fromJson(json, new TypeToken<TreeMap<String, Book.Author>>() {
+        }.getType()), is(instanceOf(TreeMap.class)));
+    }
+
+    @Test
+    public void readNull() throws Exception {
+        assertThat(gson.fromJson("null", STRING_KEYS), is(nullValue()));
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.gfx.static_gson;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import com.github.gfx.static_gson.model.Book;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+/**
+ * @see Metrics
+ * @see MetricsRecorder
+ */
+public class MetricsTest {
+
+    MetricsRecorder recorder;
+
+    Gson gson;
+
+    @Before
+    public void setUp() throws Exception {
+        recorder = new MetricsRecorder();
+        Metrics.setDelegate(recorder);
+
+        gson = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                .registerTypeAdapterFactory(new CollectionTypeAdapterFactory())
+                .create();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        Metrics.setDelegate(null);
+    }
+
+    @Test
+    public void countReadsAndWrites() throws Exception {
+        Book book = gson.fromJson("{\"title\":\"About JSON\",\"authors\":[{\"name\":\"foo\"},{\"name\":\"bar\"}]}",
+                Book.class);
+        gson.toJson(book);
+
+        MetricsRecorder.TypeMetrics bookMetrics = recorder.get(Book.class);
+        assertThat(bookMetrics.getReadCount(), is(1L));
+        assertThat(bookMetrics.getWriteCount(), is(1L));
+        // the time of a book includes the time of its authors
+        assertThat(bookMetrics.getReadNanos() >= recorder.get(Book.Author.class).getReadNanos(), is(true));
+        assertThat(recorder.get(Book.Author.class).getReadCount(), is(2L));
+        assertThat(recorder.get(Book.Author.class).getWriteCount(), is(2L));
+        assertThat(bookMetrics.getFailureCount(), is(0L));
+    }
+
+    @Test
+    public void countFailuresAndUnknownFields() throws Exception {
+        gson.fromJson("{\"isbn\":\"x\",\"title\":[],\"authors\":[{\"name\":{}},\"bar\",{\"age\":1}]}", Book.class);
+
+        MetricsRecorder.TypeMetrics bookMetrics = recorder.get(Book.class);
+        assertThat(bookMetrics.getUnknownFieldCount(), is(1L));
+        assertThat(bookMetrics.getFailureCounts(), is(Collections.singletonMap("title", 1L)));
+
+        MetricsRecorder.TypeMetrics authorMetrics = recorder.get(Book.Author.class);
+        assertThat(authorMetrics.getUnknownFieldCount(), is(1L));
+        assertThat(authorMetrics.getFailureCount(), is(2L));
+        assertThat(authorMetrics.getFailureCounts().get("name"), is(1L));
+        assertThat(authorMetrics.getFailureCounts().get(MetricsRecorder.ELEMENT), is(1L));
+    }
+
+    @Test
+    public void countFailuresOfPrimitiveArrayElements() throws Exception {
+        Gson gson = new GsonBuilder()
+                .registerTypeAdapterFactory(ArrayTypeAdapter.FACTORY)
+                .create();
+
+        boolean[] booleans = gson.fromJson("[true,\"bad\",2,1.5,{},\"false\",0]", boolean[].class);
+
+        assertThat(booleans, is(new boolean[]{true, false, false}));
+        assertThat(recorder.get(boolean.class).getFailureCounts(),
+                is(Collections.singletonMap(MetricsRecorder.ELEMENT, 4L)));
+    }
+
+    @Test
+    public void countConcurrently() throws Exception {
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    gson.fromJson("{\"name\":\"foo\"}", Book.Author.class);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(recorder.get(Book.Author.class).getReadCount(), is(4000L));
+    }
+
+    @Test
+    public void doNotWrapAdaptersWithoutDelegate() throws Exception {
+        Metrics.setDelegate(null);
+        Gson gson = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                .create();
+
+        assertThat(gson.getAdapter(Book.class), is(not(instanceOf(MetricsTypeAdapter.class))));
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.gfx.static_gson;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import com.github.gfx.static_gson.model.Book;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+/**
+ * @see StaticGsonSerializer
+ */
+public class StaticGsonSerializerTest {
+
+    Gson gson;
+
+    StaticGsonSerializer serializer;
+
+    @Before
+    public void setUp() throws Exception {
+        gson = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                .create();
+        serializer = new StaticGsonSerializer(gson);
+    }
+
+    Book createBook(String title) {
+        Book book = new Book();
+        book.title = title;
+        book.authors = Arrays.asList(Book.Author.create("foo"), Book.Author.create("bar"));
+        return book;
+    }
+
+    @Test
+    public void toJson() throws Exception {
+        Book book = createBook("About JSON");
+
+        assertThat(serializer.toJson(book), is(gson.toJson(book)));
+        // with the buffers of the last call
+        assertThat(serializer.toJson(book.authors.get(0)), is(gson.toJson(book.authors.get(0))));
+        assertThat(serializer.toJson(null), is("null"));
+    }
+
+    @Test
+    public void toJsonLargerThanPooledBuffers() throws Exception {
+        char[] title = new char[2 * 1024 * 1024];
+        Arrays.fill(title, 'a');
+        Book book = createBook(new String(title));
+
+        assertThat(serializer.toJson(book), is(gson.toJson(book)));
+        assertThat(serializer.toJson(createBook("small")), is(gson.toJson(createBook("small"))));
+    }
+
+    @Test
+    public void toJsonInUtf8() throws Exception {
+        Book book = createBook("\u00E9\u3042\uD83C\uDF63");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializer.toJson(book, out);
+
+        assertThat(out.toByteArray(), is(gson.toJson(book).getBytes(StandardCharsets.UTF_8)));
+    }
+}
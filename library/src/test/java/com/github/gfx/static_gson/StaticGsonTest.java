@@ -7,7 +7,9 @@ import com.google.gson.reflect.TypeToken;
 
 import com.github.gfx.static_gson.model.Book;
 import com.github.gfx.static_gson.model.ModelDerived;
+import com.github.gfx.static_gson.model.ModelWithAccessors;
 import com.github.gfx.static_gson.model.ModelWithBoxTypes;
+import com.github.gfx.static_gson.model.ModelWithInitializers;
 import com.github.gfx.static_gson.model.ModelWithNumerics;
 import com.github.gfx.static_gson.model.ModelWithSimpleTypes;
 import com.github.gfx.static_gson.model.ModelWithSingleValue;
@@ -44,6 +46,15 @@ public class StaticGsonTest {
         assertThat(typeAdapterFactory.create(gson, TypeToken.get(StaticGsonTest.class)), is(nullValue()));
     }
 
+    @Test
+    public void isStaticGsonType() throws Exception {
+        assertThat(StaticGsonTypeAdapterFactory.isStaticGsonType(Book.class), is(true));
+        assertThat(StaticGsonTypeAdapterFactory.isStaticGsonType(Book.Author.class), is(true));
+        assertThat(StaticGsonTypeAdapterFactory.isStaticGsonType(ModelWithNumerics.class), is(false));
+        assertThat(StaticGsonTypeAdapterFactory.isStaticGsonType(String.class), is(false));
+        assertThat(StaticGsonTypeAdapterFactory.isStaticGsonType(int.class), is(false));
+    }
+
     @Test
     public void reloadBook() throws Exception {
         Book book = new Book();
@@ -119,6 +130,19 @@ public class StaticGsonTest {
         assertThat(deserialized.derivedValue, is(model.derivedValue));
     }
 
+    @Test
+    public void reloadModelWithAccessors() throws Exception {
+        ModelWithAccessors model = gson.fromJson("{\"name\":\"foo\",\"count\":2,\"enabled\":true,\"readOnly\":\"bar\"}",
+                ModelWithAccessors.class);
+
+        assertThat(model.getName(), is("foo"));
+        assertThat(model.getCount(), is(2));
+        assertThat(model.isEnabled(), is(true));
+        assertThat(model.getReadOnly(), is("bar"));
+
+        assertThat(gson.toJson(model), is("{\"name\":\"foo\",\"count\":2,\"enabled\":true,\"readOnly\":\"bar\"}"));
+    }
+
     @Test
     public void deserializeNumericFromString() throws Exception {
         ModelWithNumerics model = gson.fromJson("{\"value\": \"42\"}", ModelWithNumerics.class);
@@ -141,4 +165,16 @@ public class StaticGsonTest {
     public void deserializeNullValue() throws Exception {
         assertThat(gson.fromJson("{}", ModelWithSingleValue.class).value, is(nullValue()));
     }
+
+    @Test
+    public void deserializeWithFieldInitializers() throws Exception {
+        ModelWithInitializers model = gson.fromJson("{\"count\":1}", ModelWithInitializers.class);
+        assertThat(model.name, is("default"));
+        assertThat(model.count, is(1));
+
+        ModelWithInitializers.WithPrivateConstructor fallback
+                = gson.fromJson("{\"count\":1}", ModelWithInitializers.WithPrivateConstructor.class);
+        assertThat(fallback.name, is("default"));
+        assertThat(fallback.count, is(1));
+    }
 }
@@ -0,0 +1,82 @@
+package com.github.gfx.static_gson;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.annotations.SerializedName;
+
+import com.github.gfx.static_gson.annotation.JsonSerializable;
+import com.github.gfx.static_gson.model.Book;
+
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+/**
+ * @see StaticGsonWriter
+ * @see JsonName
+ */
+public class StaticGsonWriterTest {
+
+    static String toJson(Gson gson, Object value) throws Exception {
+        StringWriter out = new StringWriter();
+        StaticGsonWriter writer = new StaticGsonWriter(out);
+        gson.toJson(value, value.getClass(), writer);
+        writer.flush();
+        return out.toString();
+    }
+
+    @Test
+    public void writeSameJsonAsJsonWriter() throws Exception {
+        Gson gson = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                .create();
+
+        Book book = new Book();
+        book.title = "\"About\" <JSON>\n";
+        book.authors = Arrays.asList(Book.Author.create("foo"), null, Book.Author.create(null));
+
+        assertThat(toJson(gson, book), is(gson.toJson(book)));
+    }
+
+    @Test
+    public void writeEscapedNames() throws Exception {
+        EscapedNames model = new EscapedNames();
+        model.html = "<>";
+        model.quote = "\"";
+
+        Gson htmlSafeGson = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                .create();
+        assertThat(toJson(htmlSafeGson, model), is("{\"\\u003chtml\\u003e\":\"\\u003c\\u003e\",\"\\\"quote\\\"\":\"\\\"\"}"));
+        assertThat(toJson(htmlSafeGson, model), is(htmlSafeGson.toJson(model)));
+
+        Gson gson = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                .disableHtmlEscaping()
+                .create();
+        assertThat(toJson(gson, model), is("{\"<html>\":\"<>\",\"\\\"quote\\\"\":\"\\\"\"}"));
+        assertThat(toJson(gson, model), is(gson.toJson(model)));
+    }
+
+    @JsonSerializable
+    public static class EscapedNames {
+
+        @SerializedName("<html>")
+        public String html;
+
+        @SerializedName("\"quote\"")
+        public String quote;
+    }
+
+    @Test
+    public void quote() throws Exception {
+        assertThat(JsonName.quote("a\tb", false), is("\"a\\tb\""));
+        assertThat(JsonName.quote("a'b", false), is("\"a'b\""));
+        assertThat(JsonName.quote("a'b", true), is("\"a\\u0027b\""));
+        assertThat(JsonName.quote("\u2028", false), is("\"\\u2028\""));
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.gfx.static_gson;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import com.github.gfx.static_gson.model.Book;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+/**
+ * @see Utf8Reader
+ * @see Utf8Json
+ */
+public class Utf8ReaderTest {
+
+    static String readAll(Reader reader, int chunkSize) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        char[] chunk = new char[chunkSize];
+        int count;
+        while ((count = reader.read(chunk, 0, chunkSize)) != -1) {
+            builder.append(chunk, 0, count);
+        }
+        return builder.toString();
+    }
+
+    static String decodeWithInputStreamReader(byte[] bytes) throws IOException {
+        return readAll(new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8), 64);
+    }
+
+    @Test
+    public void decodeWellFormedText() throws Exception {
+        String text = "{\"ascii\":\"abc\",\"latin\":\"\u00E9\",\"kana\":\"\u3042\",\"emoji\":\"\uD83C\uDF63\"}";
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+        for (int chunkSize = 1; chunkSize <= 8; chunkSize++) {
+            assertThat(readAll(new Utf8Reader(bytes), chunkSize), is(text));
+        }
+    }
+
+    @Test
+    public void decodeMalformedTextAsInputStreamReader() throws Exception {
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            byte[] bytes = new byte[random.nextInt(16)];
+            random.nextBytes(bytes);
+
+            String expected = decodeWithInputStreamReader(bytes);
+            assertThat(readAll(new Utf8Reader(bytes), 1), is(expected));
+            assertThat(readAll(new Utf8Reader(bytes), 64), is(expected));
+        }
+    }
+
+    @Test
+    public void readByteBuffers() throws Exception {
+        byte[] bytes = "[\"\u3042\"]".getBytes(StandardCharsets.UTF_8);
+
+        ByteBuffer heap = ByteBuffer.allocate(bytes.length + 2);
+        heap.put((byte) ' ').put(bytes).put((byte) ' ');
+        heap.position(1);
+        heap.limit(1 + bytes.length);
+        assertThat(readAll(new Utf8Reader(heap.slice()), 64), is("[\"\u3042\"]"));
+        assertThat(readAll(new Utf8Reader(heap), 64), is("[\"\u3042\"]"));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        assertThat(readAll(new Utf8Reader(direct), 64), is("[\"\u3042\"]"));
+        assertThat(direct.position(), is(0));
+    }
+
+    @Test
+    public void fromJson() throws Exception {
+        Gson gson = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                .create();
+        byte[] json = "{\"name\":\"\u3042\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(Utf8Json.fromJson(gson, json, Book.Author.class), is(Book.Author.create("\u3042")));
+        assertThat(Utf8Json.fromJson(gson, ByteBuffer.wrap(json), Book.Author.class), is(Book.Author.create("\u3042")));
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.gfx.static_gson.model;
+
+import com.github.gfx.static_gson.annotation.JsonSerializable;
+
+@JsonSerializable
+public class ModelWithAccessors {
+
+    private String name;
+
+    private int count;
+
+    private boolean enabled;
+
+    private final String readOnly = null;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getReadOnly() {
+        return readOnly;
+    }
+}
@@ -0,0 +1,25 @@
+package com.github.gfx.static_gson.model;
+
+import com.github.gfx.static_gson.annotation.JsonSerializable;
+
+@JsonSerializable
+public class ModelWithInitializers {
+
+    public String name = "default";
+
+    public int count = 42;
+
+    /**
+     * Instantiated through {@code ObjectConstructor}, as the generated type adapter can't call the constructor
+     */
+    @JsonSerializable
+    public static class WithPrivateConstructor {
+
+        public String name = "default";
+
+        public int count = 42;
+
+        private WithPrivateConstructor() {
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package com.github.gfx.static_gson
 
-import org.jetbrains.kotlin.metadata.jvm.deserialization.JvmProtoBufUtil
 import org.jetbrains.kotlin.serialization.deserialization.getName
 import javax.lang.model.element.Element
 import javax.lang.model.element.ElementKind
 import javax.lang.model.element.ExecutableElement
 import javax.lang.model.element.Modifier
+import javax.lang.model.element.TypeElement
 
 
 object AnnotationHelper {
@@ -17,11 +17,11 @@ object AnnotationHelper {
     }
 
     @JvmStatic
-    fun hasDeclaredDefault(element: Element, enclosedElement: Element): Boolean {
-        val metadata = kotlin.AnnotationHelper.getMetadata(element)
+    fun hasDeclaredDefault(context: StaticGsonContext, element: TypeElement, enclosedElement: Element): Boolean {
+        val classData = context.getKotlinClassData(element)
 
-        if (metadata != null) {
-            val (nameResolver, classProto) = JvmProtoBufUtil.readClassDataFrom(metadata.d1, metadata.d2)
+        if (classData != null) {
+            val (nameResolver, classProto) = classData
             val constructor = classProto.getConstructor(0)
 
             return constructor.valueParameterList
@@ -45,4 +45,16 @@ object AnnotationHelper {
         }
         return false
     }
+
+    /**
+     * @return `true` if [element] has a parameterless constructor that classes in its package can call, including the
+     * default constructor
+     */
+    @JvmStatic
+    fun hasNonPrivateParameterlessConstructor(element: Element): Boolean {
+        return element.enclosedElements
+                .filter { it.kind == ElementKind.CONSTRUCTOR }
+                .map { it as ExecutableElement }
+                .any { it.parameters.isEmpty() && it.thrownTypes.isEmpty() && !it.modifiers.contains(Modifier.PRIVATE) }
+    }
 }
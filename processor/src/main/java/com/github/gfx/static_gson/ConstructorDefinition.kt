@@ -0,0 +1,104 @@
+package com.github.gfx.static_gson
+
+import com.squareup.javapoet.TypeName
+import org.jetbrains.kotlin.serialization.deserialization.getName
+import javax.lang.model.element.ElementKind
+import javax.lang.model.element.ExecutableElement
+import javax.lang.model.element.Modifier
+import javax.lang.model.element.NestingKind
+import javax.lang.model.element.TypeElement
+import javax.lang.model.element.VariableElement
+
+/**
+ * The primary constructor of a Kotlin class, which generated type adapters call once with the values they have read
+ * instead of assigning fields, so that `val` properties are set without reflection and default arguments are
+ * evaluated by Kotlin.
+ *
+ * Default arguments are filled in by the synthetic constructor that takes a bitmask of the parameters to default. Java
+ * source can't call synthetic members, so it is called through a cached `Constructor` only if some of them are missing.
+ */
+class ConstructorDefinition(val parameters: List<Parameter>) {
+
+    /**
+     * @param field The field of the property, or `null` for a parameter that is always defaulted
+     * @param rawType The erasure of the parameter type, to look up the synthetic constructor
+     */
+    class Parameter(val name: String, val field: VariableElement?, val rawType: TypeName, val hasDeclaredDefault: Boolean)
+
+    val hasDeclaredDefaults: Boolean
+        get() = parameters.any { it.hasDeclaredDefault }
+
+    /**
+     * @return The number of `int` bitmasks the synthetic constructor takes, one per 32 parameters
+     */
+    val maskCount: Int
+        get() = (parameters.size + 31) / 32
+
+    /**
+     * @return The estimated size in bytes of the code that computes the bitmasks and calls the constructors
+     */
+    fun estimateCallCodeSize(): Int {
+        if (!hasDeclaredDefaults) {
+            return 5 * parameters.size
+        }
+        // each argument is also boxed into the array of the synthetic constructor call
+        return 20 * parameters.size + 20 * parameters.count { it.hasDeclaredDefault }
+    }
+
+    fun isParameter(field: VariableElement): Boolean {
+        return parameters.any { it.field == field }
+    }
+
+    companion object {
+
+        /**
+         * @param fields The serialized fields of [element]
+         * @return The primary constructor of [element] if every field is one of its parameters and the other
+         * parameters have default values, or `null` if fields must be assigned instead
+         */
+        fun find(context: StaticGsonContext, element: TypeElement, fields: List<VariableElement>): ConstructorDefinition? {
+            val (nameResolver, classProto) = context.getKotlinClassData(element) ?: return null
+            if (element.modifiers.contains(Modifier.ABSTRACT)
+                    || element.nestingKind == NestingKind.MEMBER && !element.modifiers.contains(Modifier.STATIC)
+                    || element.superclass.toString() != Any::class.java.name) {
+                // superclass fields are not in the primary constructor
+                return null
+            }
+
+            if (classProto.constructorList.size != 1) {
+                return null
+            }
+            val kotlinParameters = classProto.constructorList[0].valueParameterList
+            val names = kotlinParameters.map { nameResolver.getName(it.name).asString() }
+
+            val constructor = element.enclosedElements
+                    .filter { it.kind == ElementKind.CONSTRUCTOR }
+                    .map { it as ExecutableElement }
+                    .firstOrNull { constructor -> constructor.parameters.map { it.simpleName.toString() } == names }
+            if (constructor == null || constructor.modifiers.contains(Modifier.PRIVATE)) {
+                return null
+            }
+
+            val typeUtils = context.processingEnv.typeUtils
+            val parameters = ArrayList<Parameter>()
+            kotlinParameters.forEachIndexed { i, kotlinParameter ->
+                val javaParameter = constructor.parameters[i]
+                val field = fields.firstOrNull { it.simpleName.toString() == names[i] }
+                // the second bit signifies hasDeclaredDefault
+                val hasDeclaredDefault = kotlinParameter.flags and 0b00000010 > 0
+                if (field == null && !hasDeclaredDefault
+                        || field != null && !typeUtils.isAssignable(field.asType(), javaParameter.asType())) {
+                    return null
+                }
+                parameters.add(Parameter(names[i], field, TypeName.get(typeUtils.erasure(javaParameter.asType())),
+                        hasDeclaredDefault))
+            }
+
+            if (fields.any { field -> parameters.none { it.field == field } }) {
+                // properties declared in the class body would have to be assigned after construction
+                return null
+            }
+            return ConstructorDefinition(parameters)
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.gfx.static_gson
+
+import com.google.gson.annotations.SerializedName
+
+import com.squareup.javapoet.ClassName
+
+import javax.lang.model.element.ElementKind
+import javax.lang.model.element.TypeElement
+
+/**
+ * An enum referenced by fields of models. Its constants are serialized by their names or [SerializedName], as Gson's
+ * `EnumTypeAdapter` does.
+ */
+class EnumDefinition(val element: TypeElement) {
+
+    val enumType: ClassName = ClassName.get(element)
+
+    /**
+     * The models whose fields reference the enum, which decide whether its type adapter is generated
+     */
+    val models: MutableSet<TypeElement> = LinkedHashSet()
+
+    val constants: List<Constant> = element.enclosedElements
+            .filter { it.kind == ElementKind.ENUM_CONSTANT }
+            .map { constant ->
+                val name = constant.simpleName.toString()
+                val annotation = constant.getAnnotation(SerializedName::class.java)
+                if (annotation != null) {
+                    Constant(name, annotation.value, listOf(annotation.value) + annotation.alternate)
+                } else {
+                    Constant(name, name, listOf(name))
+                }
+            }
+            .let { withoutShadowedNames(it) }
+
+    /**
+     * A name that more than one constant declares reads as the last of them, as in Gson's `EnumTypeAdapter`, so it is
+     * dropped from the others. [JsonNameTable] rejects duplicate names.
+     */
+    private fun withoutShadowedNames(constants: List<Constant>): List<Constant> {
+        val lastOwners = HashMap<String, Constant>()
+        constants.forEach { constant -> constant.serializedNameCandidates.forEach { lastOwners[it] = constant } }
+        return constants.map { constant ->
+            Constant(constant.name, constant.serializedName,
+                    constant.serializedNameCandidates.filter { lastOwners[it] === constant }.distinct())
+        }
+    }
+
+    class Constant(val name: String, val serializedName: String, val serializedNameCandidates: List<String>)
+}
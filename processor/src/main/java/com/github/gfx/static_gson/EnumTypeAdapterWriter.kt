@@ -0,0 +1,154 @@
+package com.github.gfx.static_gson
+
+import com.google.gson.Gson
+import com.google.gson.stream.JsonReader
+import com.google.gson.stream.JsonToken
+import com.google.gson.stream.JsonWriter
+
+import com.squareup.javapoet.ArrayTypeName
+import com.squareup.javapoet.CodeBlock
+import com.squareup.javapoet.FieldSpec
+import com.squareup.javapoet.JavaFile
+import com.squareup.javapoet.MethodSpec
+import com.squareup.javapoet.ParameterizedTypeName
+import com.squareup.javapoet.TypeSpec
+
+import java.io.IOException
+
+import javax.lang.model.element.Modifier
+
+/**
+ * Writes a type adapter for [definition] that dispatches names with a [JsonNameTable] and writes names quoted at
+ * compile time, instead of Gson's `EnumTypeAdapter`, which reflects on the constants and their `@SerializedName` on
+ * creation and looks names up in a `HashMap`.
+ *
+ * A string that matches none of the constants is read as `null`, as Gson does, and logged.
+ */
+class EnumTypeAdapterWriter(private val context: StaticGsonContext, private val definition: EnumDefinition) {
+
+    private val enumType = definition.enumType
+
+    internal val packageName: String
+        get() = enumType.packageName()
+
+    internal fun buildTypeSpec(): TypeSpec {
+        val typeAdapterClass = TypeSpec.classBuilder(TypeAdapterFactoryWriter.createTypeAdapterClassName(enumType))
+        typeAdapterClass.addJavadoc("This class is instantiated by the package's {@link \$T}.\n",
+                Types.StaticGsonIndex)
+        typeAdapterClass.addAnnotation(Annotations.suppressWarnings("unused"))
+        typeAdapterClass.addAnnotation(Annotations.staticGsonGenerated())
+        typeAdapterClass.addModifiers(Modifier.PUBLIC)
+        typeAdapterClass.addOriginatingElement(definition.element)
+        definition.models.forEach { typeAdapterClass.addOriginatingElement(it) }
+        typeAdapterClass.superclass(Types.getTypeAdapter(enumType))
+
+        typeAdapterClass.addField(buildNameTableField())
+        typeAdapterClass.addField(FieldSpec.builder(ArrayTypeName.of(Types.JsonName), "VALUE_NAMES",
+                Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new \$T[\$T.values().length]", Types.JsonName, enumType)
+                .build())
+
+        val valueNames = CodeBlock.builder()
+        for (constant in definition.constants) {
+            valueNames.addStatement("VALUE_NAMES[\$T.\$L.ordinal()] = \$L", enumType, constant.name,
+                    FieldDefinition.buildJsonNameExpression(constant.serializedName))
+        }
+        typeAdapterClass.addStaticBlock(valueNames.build())
+
+        // the same signature as model type adapters, for the package's StaticGsonIndex
+        typeAdapterClass.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(Gson::class.java, "gson")
+                .addParameter(ParameterizedTypeName.get(Types.TypeToken, enumType), "typeToken")
+                .addParameter(ParameterizedTypeName.get(Types.ObjectConstructor, enumType), "objectConstructor")
+                .build())
+
+        typeAdapterClass.addMethod(buildWriteMethod())
+        typeAdapterClass.addMethod(buildReadMethod())
+
+        return typeAdapterClass.build()
+    }
+
+    /**
+     * @return `private static final JsonNameTable NAMES`, with all the serialized name candidates in constant order
+     */
+    private fun buildNameTableField(): FieldSpec {
+        val names = CodeBlock.builder()
+        var first = true
+        for (constant in definition.constants) {
+            for (name in constant.serializedNameCandidates) {
+                names.add(if (first) "\$S" else ", \$S", name)
+                first = false
+            }
+        }
+        return FieldSpec.builder(Types.JsonNameTable, "NAMES", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new \$T(\$L)", Types.JsonNameTable, names.build())
+                .build()
+    }
+
+    /**
+     * @return `public void write(JsonWriter writer, E value) throws IOException`
+     */
+    private fun buildWriteMethod(): MethodSpec {
+        val method = MethodSpec.methodBuilder("write")
+                .addAnnotation(Override::class.java)
+                .addModifiers(Modifier.PUBLIC)
+                .addException(IOException::class.java)
+                .addParameter(JsonWriter::class.java, "writer")
+                .addParameter(enumType, "value")
+
+        method.beginControlFlow("if (value == null)")
+        method.addStatement("writer.nullValue()")
+        method.nextControlFlow("else")
+        method.addStatement("\$T.writeValue(writer, VALUE_NAMES[value.ordinal()])", Types.StaticGsonWriter)
+        method.endControlFlow()
+        return method.build()
+    }
+
+    /**
+     * @return `public E read(JsonReader reader) throws IOException`
+     */
+    private fun buildReadMethod(): MethodSpec {
+        val method = MethodSpec.methodBuilder("read")
+                .addAnnotation(Override::class.java)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(enumType)
+                .addException(IOException::class.java)
+                .addParameter(JsonReader::class.java, "reader")
+
+        method.beginControlFlow("if (reader.peek() == \$T.\$L)", JsonToken::class.java, JsonToken.NULL)
+        method.addStatement("reader.nextNull()")
+        method.addStatement("return null")
+        method.endControlFlow() // if
+
+        method.addStatement("String name = reader.nextString()")
+        method.beginControlFlow("switch (NAMES.indexOf(name))")
+        var nameIndex = 0
+        for (constant in definition.constants) {
+            if (constant.serializedNameCandidates.isEmpty()) {
+                // every name of the constant reads as a later one
+                continue
+            }
+            for (name in constant.serializedNameCandidates) {
+                method.addCode("case \$L: // \$S\n", nameIndex++, name)
+            }
+            method.addStatement("return \$T.\$L", enumType, constant.name)
+        }
+        method.addCode("default:\n")
+        method.addStatement("\$T.logUnknownConstant(reader, \$T.class, name)", Types.ParserHelper, enumType)
+        method.addStatement("return null")
+        method.endControlFlow() // switch
+
+        return method.build()
+    }
+
+    private fun buildJavaFile(): JavaFile {
+        return JavaFile.builder(packageName, buildTypeSpec())
+                .skipJavaLangImports(true)
+                .build()
+    }
+
+    fun write() {
+        context.write(buildJavaFile())
+    }
+}
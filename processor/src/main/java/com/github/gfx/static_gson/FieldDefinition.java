@@ -8,6 +8,7 @@ import com.github.gfx.static_gson.annotation.JsonSerializable;
 import com.github.gfx.static_gson.annotation.JsonStrict;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 
@@ -19,11 +20,18 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
+import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
 import javax.tools.Diagnostic;
 
 public class FieldDefinition {
@@ -32,10 +40,24 @@ public class FieldDefinition {
 
     private static final String NOTNULL_ANNOTATION_NAME = "NotNull";
 
+    /**
+     * The field of generated type adapters with an instance of the model in its initial state, for {@code readInto()}
+     */
+    static final String DEFAULTS = "defaults";
+
+    /**
+     * The fields of generated type adapters with {@code LongValueWriter}s for {@code long} and {@code Long} fields
+     */
+    static final String LONG_VALUE_WRITER = "longValueWriter";
+
+    static final String BOXED_LONG_VALUE_WRITER = "boxedLongValueWriter";
+
     private final JsonSerializable config;
 
     private final VariableElement element;
 
+    private final String packageName;
+
     private final TypeName type;
 
     private final String fieldName;
@@ -56,12 +78,33 @@ public class FieldDefinition {
 
     private final boolean hasDeclaredDefault;
 
+    /**
+     * {@code true} if the field is a parameter of the primary constructor that the model is read with
+     */
+    private final boolean constructorParameter;
 
-    public FieldDefinition(JsonSerializable config, VariableElement element, boolean isKotlin, boolean hasDeclaredDefault) {
+    /**
+     * The name of a getter method to read a private field, or {@code null} if it is read with reflection
+     */
+    private final String getterName;
+
+    /**
+     * The name of a setter method to write a private field, or {@code null} if it is written with reflection
+     */
+    private final String setterName;
+
+    /**
+     * @param packageName The package of the generated type adapter, which may differ from the package of a superclass
+     *                    that declares the field
+     */
+    public FieldDefinition(JsonSerializable config, VariableElement element, String packageName, boolean isKotlin,
+            boolean hasDeclaredDefault, boolean constructorParameter) {
         this.config = config;
         this.element = element;
+        this.packageName = packageName;
         this.isKotlin = isKotlin;
         this.hasDeclaredDefault = hasDeclaredDefault;
+        this.constructorParameter = constructorParameter;
         type = TypeName.get(element.asType());
         fieldName = element.getSimpleName().toString();
         serializedNameCandidates = new ArrayList<>();
@@ -77,9 +120,20 @@ public class FieldDefinition {
         }
         strict = element.getAnnotation(JsonStrict.class) != null;
         mustSet = element.getAnnotation(JsonMustSet.class) != null;
-        nonNull = AnnotationHelper.hasAnnotationWithName(element, NONNULL_ANNOTATION_NAME)
-                || AnnotationHelper.hasAnnotationWithName(element, NOTNULL_ANNOTATION_NAME);
+        // kapt stubs annotate every non-null property with @NotNull, but a parameter with a declared default is
+        // defaulted by the constructor instead
+        nonNull = !(constructorParameter && hasDeclaredDefault)
+                && (AnnotationHelper.hasAnnotationWithName(element, NONNULL_ANNOTATION_NAME)
+                || AnnotationHelper.hasAnnotationWithName(element, NOTNULL_ANNOTATION_NAME));
         nullable = element.getAnnotation(Nullable.class) != null;
+
+        if (isPrivate()) {
+            getterName = findGetterName();
+            setterName = findSetterName();
+        } else {
+            getterName = null;
+            setterName = null;
+        }
     }
 
     private static String separateCamelCase(String name, String separator) {
@@ -126,6 +180,266 @@ public class FieldDefinition {
                 : String.valueOf(firstCharacter);
     }
 
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Kotlin properties named {@code isFoo} are compiled to {@code isFoo()} and {@code setFoo()}.
+     */
+    private boolean hasKotlinBooleanPropertyName() {
+        return fieldName.length() > 2 && fieldName.startsWith("is") && Character.isUpperCase(fieldName.charAt(2));
+    }
+
+    private boolean isBoolean() {
+        return type.equals(TypeName.BOOLEAN) || type.equals(TypeName.BOOLEAN.box());
+    }
+
+    /**
+     * @return The instance methods of the class declaring the field that the generated type adapter can call: public
+     * ones, or package-private and protected ones if the class is in the package of the type adapter
+     */
+    private List<ExecutableElement> getAccessibleMethods() {
+        Element declaringClass = element.getEnclosingElement();
+        boolean samePackage = getPackageName(declaringClass).equals(packageName);
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (Element enclosed : declaringClass.getEnclosedElements()) {
+            Set<Modifier> modifiers = enclosed.getModifiers();
+            if (enclosed.getKind() == ElementKind.METHOD
+                    && !modifiers.contains(Modifier.STATIC)
+                    && (modifiers.contains(Modifier.PUBLIC) || samePackage && !modifiers.contains(Modifier.PRIVATE))) {
+                methods.add((ExecutableElement) enclosed);
+            }
+        }
+        return methods;
+    }
+
+    private static String getPackageName(Element element) {
+        while (!(element instanceof PackageElement)) {
+            element = element.getEnclosingElement();
+        }
+        return ((PackageElement) element).getQualifiedName().toString();
+    }
+
+    private String findGetterName() {
+        List<String> candidates = new ArrayList<>();
+        if (isKotlin && hasKotlinBooleanPropertyName()) {
+            candidates.add(fieldName);
+        }
+        candidates.add("get" + capitalize(fieldName));
+        if (isBoolean()) {
+            candidates.add("is" + capitalize(fieldName));
+        }
+
+        for (ExecutableElement method : getAccessibleMethods()) {
+            if (candidates.contains(method.getSimpleName().toString())
+                    && method.getParameters().isEmpty()
+                    && TypeName.get(method.getReturnType()).equals(type)) {
+                return method.getSimpleName().toString();
+            }
+        }
+        return null;
+    }
+
+    private String findSetterName() {
+        List<String> candidates = new ArrayList<>();
+        if (isKotlin && hasKotlinBooleanPropertyName()) {
+            candidates.add("set" + fieldName.substring(2));
+        }
+        candidates.add("set" + capitalize(fieldName));
+
+        for (ExecutableElement method : getAccessibleMethods()) {
+            if (candidates.contains(method.getSimpleName().toString())
+                    && method.getParameters().size() == 1
+                    && TypeName.get(method.getParameters().get(0).asType()).equals(type)) {
+                return method.getSimpleName().toString();
+            }
+        }
+        return null;
+    }
+
+    private boolean isPrivate() {
+        return element.getModifiers().contains(Modifier.PRIVATE);
+    }
+
+    private boolean isReadWithReflection() {
+        return isPrivate() && getterName == null;
+    }
+
+    private boolean isWrittenWithReflection() {
+        return isPrivate() && setterName == null;
+    }
+
+    private String getAccessorName() {
+        return "accessor$" + fieldName;
+    }
+
+    /**
+     * @return A cached {@link Field} for a private field without accessor methods, or {@code null} if not required
+     */
+    @Nullable
+    public FieldSpec getAccessorField() {
+        if (!isReadWithReflection() && !isWrittenWithReflection()) {
+            return null;
+        }
+        ClassName declaringClass = ClassName.get((TypeElement) element.getEnclosingElement());
+        return FieldSpec.builder(Field.class, getAccessorName(), Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$T.getAccessibleField($T.class, $S)", Types.ReflectionHelper, declaringClass, fieldName)
+                .build();
+    }
+
+    private String getJsonNameFieldName() {
+        return "NAME$" + fieldName;
+    }
+
+    /**
+     * @return A {@link JsonName} with the serialized name quoted and escaped at compile time
+     */
+    public FieldSpec getJsonNameField() {
+        return FieldSpec.builder(Types.JsonName, getJsonNameFieldName(), Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer(buildJsonNameExpression(serializedName))
+                .build();
+    }
+
+    /**
+     * @return {@code new JsonName(...)} with {@code name} quoted and escaped at compile time
+     */
+    static CodeBlock buildJsonNameExpression(String name) {
+        String quoted = JsonName.quote(name, false);
+        String htmlSafeQuoted = JsonName.quote(name, true);
+        return quoted.equals(htmlSafeQuoted)
+                ? CodeBlock.of("new $T($S, $S)", Types.JsonName, name, quoted)
+                : CodeBlock.of("new $T($S, $S, $S)", Types.JsonName, name, quoted, htmlSafeQuoted);
+    }
+
+    /**
+     * @return The name of a typed accessor of {@link Field}, e.g. {@code Int} for {@code getInt()} and {@code setInt()}
+     */
+    private String getReflectionAccessorSuffix() {
+        return type.isPrimitive() ? capitalize(type.toString()) : "";
+    }
+
+    /**
+     * @param object A name of the target object, or an expression to get it
+     * @return An expression to get the field value. It may throw {@link IllegalAccessException}.
+     */
+    private CodeBlock buildGetExpression(Object object) {
+        if (!isPrivate()) {
+            return CodeBlock.of("$L.$L", object, fieldName);
+        } else if (!isReadWithReflection()) {
+            return CodeBlock.of("$L.$L()", object, getterName);
+        } else if (type.isPrimitive()) {
+            return CodeBlock.of("$L.get$L($L)", getAccessorName(), getReflectionAccessorSuffix(), object);
+        } else {
+            return CodeBlock.of("($T) $L.get($L)", type, getAccessorName(), object);
+        }
+    }
+
+    /**
+     * @param object A name of the target object
+     * @param value  An expression of the new value
+     * @return A statement to set the field value. It may throw {@link IllegalAccessException}.
+     */
+    private CodeBlock buildSetStatement(String object, CodeBlock value) {
+        if (!isPrivate()) {
+            return CodeBlock.builder().addStatement("$L.$L = $L", object, fieldName, value).build();
+        } else if (!isWrittenWithReflection()) {
+            return CodeBlock.builder().addStatement("$L.$L($L)", object, setterName, value).build();
+        } else {
+            return CodeBlock.builder()
+                    .addStatement("$L.set$L($L, $L)", getAccessorName(), getReflectionAccessorSuffix(), object, value)
+                    .build();
+        }
+    }
+
+    /**
+     * @param arguments A name of the holder of constructor arguments, or {@code null} for local variables
+     * @return The local variable or holder field that keeps the value of a constructor parameter until the constructor
+     * is called
+     */
+    private String getArgumentExpression(String arguments) {
+        return arguments == null ? getArgumentName() : arguments + "." + getArgumentName();
+    }
+
+    public String getArgumentName() {
+        return "arg$" + fieldName;
+    }
+
+    /**
+     * @param object A name of the target object, or of the holder of constructor arguments for a constructor parameter
+     * @return An expression to get the value being read
+     */
+    private CodeBlock buildReadGetExpression(String object) {
+        return constructorParameter ? CodeBlock.of("$L", getArgumentExpression(object)) : buildGetExpression(object);
+    }
+
+    /**
+     * @param object A name of the target object, or of the holder of constructor arguments for a constructor parameter
+     * @return A statement to set the value being read
+     */
+    private CodeBlock buildReadSetStatement(String object, CodeBlock value) {
+        if (constructorParameter) {
+            return CodeBlock.builder().addStatement("$L = $L", getArgumentExpression(object), value).build();
+        }
+        return buildSetStatement(object, value);
+    }
+
+    /**
+     * @return A local variable for the value of a constructor parameter, initialized to the default value of its type
+     */
+    public CodeBlock buildDeclareArgumentCodeBlock() {
+        return CodeBlock.builder().addStatement("$T $L = $L", type, getArgumentName(), getZeroValue(type)).build();
+    }
+
+    /**
+     * @return A field of the holder of constructor arguments, for read methods split into chunks
+     */
+    public FieldSpec getArgumentField() {
+        return FieldSpec.builder(type, getArgumentName()).build();
+    }
+
+    /**
+     * @param arguments A name of the holder of constructor arguments, or {@code null} for local variables
+     * @param setFlag   A boolean variable set by {@link #buildReadCodeBlock}
+     * @return A condition under which the default value of the constructor parameter is used instead of the value read.
+     * A {@code null} for a non-null parameter falls back to the default value, too.
+     */
+    public CodeBlock buildUseDefaultCondition(String arguments, String setFlag) {
+        if (!type.isPrimitive() && !nullable) {
+            return CodeBlock.of("!$L || $L == null", setFlag, getArgumentExpression(arguments));
+        }
+        return CodeBlock.of("!$L", setFlag);
+    }
+
+    /**
+     * @return The default value of {@code type}, cast so that it is boxed to the type when passed as {@code Object}
+     */
+    static String getZeroValue(TypeName type) {
+        if (type.equals(TypeName.BOOLEAN)) {
+            return "false";
+        } else if (type.equals(TypeName.LONG)) {
+            return "0L";
+        } else if (type.equals(TypeName.FLOAT)) {
+            return "0f";
+        } else if (type.equals(TypeName.DOUBLE)) {
+            return "0.0";
+        } else if (type.equals(TypeName.CHAR)) {
+            return "'\\0'";
+        } else if (type.equals(TypeName.BYTE)) {
+            return "(byte) 0";
+        } else if (type.equals(TypeName.SHORT)) {
+            return "(short) 0";
+        } else if (type.isPrimitive()) {
+            return "0";
+        } else {
+            return "null";
+        }
+    }
+
+    public boolean hasDeclaredDefault() {
+        return hasDeclaredDefault;
+    }
+
     public VariableElement getElement() {
         return element;
     }
@@ -142,7 +456,7 @@ public class FieldDefinition {
      * @return {@code true} if the type doesn't require a specific type adapter
      */
     public boolean isSimpleType() {
-        // long and Long are not a simple type because of LongSerializationPolicy
+        // long and Long are not a simple type because of LongSerializationPolicy, see isLongType()
         return type.equals(TypeName.BOOLEAN)
                 || type.equals(TypeName.INT)
                 || type.equals(TypeName.BYTE)
@@ -158,6 +472,14 @@ public class FieldDefinition {
                 || type.equals(Types.String);
     }
 
+    /**
+     * @return {@code true} if the type is written by a {@code LongValueWriter}, which honors the
+     * {@code LongSerializationPolicy} of the Gson instance without boxing, instead of a type adapter
+     */
+    public boolean isLongType() {
+        return type.equals(TypeName.LONG) || type.equals(TypeName.LONG.box());
+    }
+
     /**
      * @param typeRegistry A type registry for the model type
      * @param object       A name of the target object
@@ -169,20 +491,22 @@ public class FieldDefinition {
 
         String field = "field$" + fieldName;
 
-        if (element.getModifiers().contains(Modifier.PRIVATE)) {
+        if (isReadWithReflection()) {
+            block.addStatement("$T $L", type, field);
             block.beginControlFlow("try");
-            block.addStatement("$T f = $L.getClass().getDeclaredField($S)", Field.class, object, fieldName);
-            block.addStatement("f.setAccessible(true)");
-            block.addStatement("$T $L = ($T)f.get(value)", element.asType(), field, element.asType());
+            block.addStatement("$L = $L", field, buildGetExpression(object));
+            block.nextControlFlow("catch ($T ex)", IllegalAccessException.class);
+            block.addStatement("throw new $T(ex)", AssertionError.class);
+            block.endControlFlow();
         } else {
-            block.addStatement("$T $L = $L.$L", element.asType(), field, object, fieldName);
+            block.addStatement("$T $L = $L", type, field, buildGetExpression(object));
         }
 
         if (!type.isPrimitive() && !config.serializeNulls()) {
             block.beginControlFlow("if ($L != null)", field);
         }
 
-        block.addStatement("$L.name($S)", writer, serializedName);
+        block.addStatement("$T.writeName($L, $L)", Types.StaticGsonWriter, writer, getJsonNameFieldName());
 
         if (!type.isPrimitive() && config.serializeNulls()) {
             block.beginControlFlow("if ($L != null)", field);
@@ -190,6 +514,9 @@ public class FieldDefinition {
 
         if (isSimpleType()) {
             block.addStatement("$L.value($L)", writer, field);
+        } else if (isLongType()) {
+            block.addStatement("$L.write($L, $L)", type.isPrimitive() ? LONG_VALUE_WRITER : BOXED_LONG_VALUE_WRITER,
+                    writer, field);
         } else {
             block.addStatement("$N.write($L, $L)", typeRegistry.getField(type), writer, field);
         }
@@ -202,22 +529,21 @@ public class FieldDefinition {
                 block.endControlFlow();
             }
         }
-
-        if (element.getModifiers().contains(Modifier.PRIVATE)) {
-            block.nextControlFlow("catch ($T|$T ex)", NoSuchFieldException.class, IllegalAccessException.class);
-            block.endControlFlow();
-        }
         return block.build();
     }
 
     /**
      * @param typeRegistry A type registry for the model type
-     * @param object       A name of the target object
+     * @param object       A name of the target object, or for a constructor parameter, of the holder of constructor
+     *                     arguments or {@code null} for local variables
      * @param reader       A {@link com.google.gson.stream.JsonReader} instance
+     * @param modelType    The model type to report failures of to {@code Metrics}
+     * @param setFlag      A boolean variable to set if {@link #hasMustSetFlag()}, or always if {@code reuse}
+     * @param reuse        {@code true} to read into the current value of the field, as {@code readInto()} does
      * @return An expression to read the field
      */
     public CodeBlock buildReadCodeBlock(TypeRegistry typeRegistry, String object, String reader, String className,
-            StaticGsonContext context) {
+            TypeName modelType, StaticGsonContext context, String setFlag, boolean reuse) {
 
         // check private
         CodeBlock.Builder block = CodeBlock.builder();
@@ -233,72 +559,39 @@ public class FieldDefinition {
 
         block.beginControlFlow("try");
 
-        if (element.getModifiers().contains(Modifier.PRIVATE)) {
-
-            block.addStatement("$T f = $L.getClass().getDeclaredField($S)", Field.class, object, fieldName);
-            block.addStatement("f.setAccessible(true)");
-
-            if (unboxType.equals(TypeName.BOOLEAN)) {
-                block.addStatement(
-                        "f.set($L, com.github.gfx.static_gson.ParserHelper.nextRelaxedBoolean($L, $L, $L, (Boolean)f.get($L)))", object,
-                        reader, nullable, strict || nonNull || mustSet || (isKotlin && !nullable && !hasDeclaredDefault), object);
-            } else if (unboxType.equals(TypeName.LONG)) {
-                block.addStatement("f.set($L, $L.nextLong())", object, reader);
-            } else if (unboxType.equals(TypeName.INT)
-                    || unboxType.equals(TypeName.BYTE)
-                    || unboxType.equals(TypeName.SHORT)) {
-                block.addStatement("f.set($L, ($T) $L.nextLong())", object, unboxType, reader);
-            } else if (unboxType.equals(TypeName.DOUBLE)) {
-                block.addStatement("f.set($L, $L.nextDouble())", object, reader);
-            } else if (unboxType.equals(TypeName.FLOAT)) {
-                block.addStatement("f.set($L, ($T) $L.nextDouble())", object, unboxType, reader);
-            } else if (unboxType.equals(Types.String)) {
-                block.addStatement("f.set($L, $L.nextString())", object, reader);
-            } else {
-                checkFieldTypeJsonSerializable(className, context);
-                block.addStatement("f.set($L, $N.read($L))",
-                        object, typeRegistry.getField(type), reader);
-            }
-
+        if (unboxType.equals(TypeName.BOOLEAN)) {
+            // the current value of an object being read into is stale, so an invalid value falls back to the default
+            block.add(buildReadSetStatement(object, CodeBlock.of("$T.nextRelaxedBoolean($L, $L, $L, $L)",
+                    Types.ParserHelper, reader, nullable, isStrictRead(),
+                    reuse ? buildGetExpression(DEFAULTS) : buildReadGetExpression(object))));
+        } else if (unboxType.equals(TypeName.LONG)
+                || unboxType.equals(TypeName.INT)
+                || unboxType.equals(TypeName.BYTE)
+                || unboxType.equals(TypeName.SHORT)
+                || unboxType.equals(TypeName.DOUBLE)
+                || unboxType.equals(TypeName.FLOAT)
+                || unboxType.equals(Types.String)) {
+            block.add(buildSimpleReadBlock(unboxType, object, reader));
         } else {
-            if (unboxType.equals(TypeName.BOOLEAN)) {
-                block.addStatement("$L.$L = com.github.gfx.static_gson.ParserHelper.nextRelaxedBoolean($L, $L, $L, $L.$L)",
-                        object, fieldName, reader, nullable, strict || nonNull || mustSet || (isKotlin && !nullable && !hasDeclaredDefault), object, fieldName);
-            } else if (unboxType.equals(TypeName.LONG)) {
-                block.addStatement("$L.$L = $L.nextLong()", object, fieldName, reader);
-            } else if (unboxType.equals(TypeName.INT)
-                    || unboxType.equals(TypeName.BYTE)
-                    || unboxType.equals(TypeName.SHORT)) {
-                block.addStatement("$L.$L = ($T) $L.nextLong()", object, fieldName, unboxType, reader);
-            } else if (unboxType.equals(TypeName.DOUBLE)) {
-                block.addStatement("$L.$L = $L.nextDouble()", object, fieldName, reader);
-            } else if (unboxType.equals(TypeName.FLOAT)) {
-                block.addStatement("$L.$L = ($T) $L.nextDouble()", object, fieldName, unboxType, reader);
-            } else if (unboxType.equals(Types.String)) {
-                block.addStatement("$L.$L = $L.nextString()", object, fieldName, reader);
+            checkFieldTypeJsonSerializable(className, context);
+            if (reuse) {
+                block.add(buildSetStatement(object, CodeBlock.of("$T.readInto($N, $L, $L)",
+                        Types.ParserHelper, typeRegistry.getField(type), reader, buildGetExpression(object))));
             } else {
-                checkFieldTypeJsonSerializable(className, context);
-                block.addStatement("$L.$L = $N.read($L)",
-                        object, fieldName, typeRegistry.getField(type), reader);
+                block.add(buildReadSetStatement(object, CodeBlock.of("$N.read($L)", typeRegistry.getField(type), reader)));
             }
         }
 
-        block.add(buildMustSetFlagCodeBlock());
+        block.add(buildMustSetFlagCodeBlock(setFlag, reuse));
 
         block.nextControlFlow("catch ($T ex)", JsonUngracefulException.class);
         block.addStatement("throw ex");
-
-        if (element.getModifiers().contains(Modifier.PRIVATE)) {
-            block.nextControlFlow("catch ($T|$T ex)", NoSuchFieldException.class, IllegalAccessException.class);
-        }
         block.nextControlFlow("catch ($T ex)", Exception.class);
 
-        block.beginControlFlow("if ($L.peek() != $T.$L)", reader, JsonToken.class,
-                JsonToken.END_OBJECT);
-        block.addStatement("$L.skipValue()", reader);
-        block.endControlFlow();
+        block.addStatement("$T.skipFailedValue($L)", Types.ParserHelper, reader);
+        block.addStatement("$T.reportFailure($T.class, $S, $L, ex)", Types.Metrics, modelType, fieldName, reader);
 
-        if (strict || nonNull || mustSet || (isKotlin && !nullable && !hasDeclaredDefault)) {
+        if (isStrictRead()) {
             // skip all other values
             block.beginControlFlow("while ($L.peek() != $T.$L)", reader, JsonToken.class,
                     JsonToken.END_OBJECT);
@@ -316,6 +609,45 @@ public class FieldDefinition {
         return block.build();
     }
 
+    /**
+     * @return Statements to read a number or a string, checking the token first so that a mismatch fails with a
+     * {@link JsonGracefulException} instead of a Gson exception with a stack trace. Narrower numbers are read with
+     * range checks by {@code ParserHelper}.
+     */
+    private CodeBlock buildSimpleReadBlock(TypeName unboxType, String object, String reader) {
+        CodeBlock.Builder block = CodeBlock.builder();
+        if (unboxType.equals(TypeName.INT)) {
+            block.add(buildReadSetStatement(object, CodeBlock.of("$T.nextInt($L, $L)",
+                    Types.ParserHelper, reader, isStrictRead())));
+        } else if (unboxType.equals(TypeName.SHORT)) {
+            block.add(buildReadSetStatement(object, CodeBlock.of("$T.nextShort($L, $L)",
+                    Types.ParserHelper, reader, isStrictRead())));
+        } else if (unboxType.equals(TypeName.BYTE)) {
+            block.add(buildReadSetStatement(object, CodeBlock.of("$T.nextByte($L, $L)",
+                    Types.ParserHelper, reader, isStrictRead())));
+        } else if (unboxType.equals(TypeName.FLOAT)) {
+            block.add(buildReadSetStatement(object, CodeBlock.of("$T.nextFloat($L, $L)",
+                    Types.ParserHelper, reader, isStrictRead())));
+        } else {
+            block.addStatement("$T.checkStringOrNumber($L, $L)", Types.ParserHelper, reader, isStrictRead());
+            if (unboxType.equals(TypeName.LONG)) {
+                block.add(buildReadSetStatement(object, CodeBlock.of("$L.nextLong()", reader)));
+            } else if (unboxType.equals(TypeName.DOUBLE)) {
+                block.add(buildReadSetStatement(object, CodeBlock.of("$L.nextDouble()", reader)));
+            } else {
+                block.add(buildReadSetStatement(object, CodeBlock.of("$L.nextString()", reader)));
+            }
+        }
+        return block.build();
+    }
+
+    /**
+     * @return {@code true} if a failure to read the field fails the whole object instead of being logged
+     */
+    private boolean isStrictRead() {
+        return strict || nonNull || mustSet || (isKotlin && !nullable && !hasDeclaredDefault);
+    }
+
     private void checkFieldTypeJsonSerializable(String className, StaticGsonContext context) {
         TypeName checkType;
         if (type instanceof ParameterizedTypeName) {
@@ -361,58 +693,188 @@ public class FieldDefinition {
         }
     }
 
+    /**
+     * @param object A name of the target object, or for a constructor parameter, of the holder of constructor arguments
+     *               or {@code null} for local variables
+     */
     public CodeBlock buildNullCheckCodeBlock(String className, String object) {
         CodeBlock.Builder block = CodeBlock.builder();
         if ((nonNull || isKotlin && !nullable && !hasDeclaredDefault) && !type.isPrimitive()) {
-            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+            boolean reflection = isReadWithReflection() && !constructorParameter;
+            if (reflection) {
                 block.beginControlFlow("try");
-                String field = "field$" + fieldName;
-                block.addStatement("$T $L = $L.getClass().getDeclaredField($S)", Field.class, field, object, fieldName);
-                block.addStatement("$L.setAccessible(true)", field);
-                block.beginControlFlow("if ($L.get($L) == null)", field, object);
-
-                block.addStatement("throw new $T(\"$L.$L must not be null\")", JsonGracefulException.class, className,
-                        fieldName);
-                block.endControlFlow();
-                block.nextControlFlow("catch ($T|$T ex)", NoSuchFieldException.class, IllegalAccessException.class);
-                block.endControlFlow();
-
-            } else {
-                block.beginControlFlow("if ($L.$L == null)", object, fieldName);
-                block.addStatement("throw new $T(\"$L.$L must not be null\")", JsonGracefulException.class, className,
-                        fieldName);
+            }
+            block.beginControlFlow("if ($L == null)", buildReadGetExpression(object));
+            block.addStatement("throw new $T(\"$L.$L must not be null\")", JsonGracefulException.class, className,
+                    fieldName);
+            block.endControlFlow();
+            if (reflection) {
+                block.nextControlFlow("catch ($T ex)", IllegalAccessException.class);
+                block.addStatement("throw new $T(ex)", AssertionError.class);
                 block.endControlFlow();
             }
         }
         return block.build();
     }
 
-    public CodeBlock buildMustDeclareFlagCodeBlock() {
+    /**
+     * @return {@code true} if reading needs a flag to tell whether the primitive field was set
+     */
+    public boolean hasMustSetFlag() {
+        return (mustSet || isKotlin && !nullable && !hasDeclaredDefault) && type.isPrimitive();
+    }
+
+    /**
+     * @param reuse {@code true} for {@code readInto()}, which needs the flags of all the fields to reset the rest
+     * @return {@code true} if reading needs a flag to tell whether the field was set
+     */
+    public boolean hasSetFlag(boolean reuse) {
+        return reuse || hasMustSetFlag() || constructorParameter && hasDeclaredDefault;
+    }
+
+    /**
+     * @return The name of the local variable declared by {@link #buildMustDeclareFlagCodeBlock(boolean)}
+     */
+    public String getMustSetFlagName() {
+        return fieldName + "Set";
+    }
+
+    public CodeBlock buildMustDeclareFlagCodeBlock(boolean reuse) {
+        CodeBlock.Builder block = CodeBlock.builder();
+        if (hasSetFlag(reuse)) {
+            block.addStatement("boolean $L = false", getMustSetFlagName());
+        }
+        return block.build();
+    }
+
+    public CodeBlock buildMustSetFlagCodeBlock(String setFlag, boolean reuse) {
         CodeBlock.Builder block = CodeBlock.builder();
-        if ((mustSet || isKotlin && !nullable && !hasDeclaredDefault) && type.isPrimitive()) {
-            block.addStatement("boolean $LSet = false", fieldName);
+        if (hasSetFlag(reuse)) {
+            block.addStatement("$L = true", setFlag);
         }
         return block.build();
     }
 
-    public CodeBlock buildMustSetFlagCodeBlock() {
+    /**
+     * @return {@code true} if values of the field type are immutable, so that the default value can be shared
+     */
+    private boolean isImmutableType() {
+        if (type.isPrimitive() || type.isBoxedPrimitive() || type.equals(Types.String)) {
+            return true;
+        }
+        TypeMirror typeMirror = element.asType();
+        return typeMirror.getKind() == TypeKind.DECLARED
+                && ((DeclaredType) typeMirror).asElement().getKind() == ElementKind.ENUM;
+    }
+
+    /**
+     * @return {@code true} if {@link #buildResetCodeBlock} takes the default value from a new instance of the model
+     */
+    public boolean isResetFromNewInstance() {
+        return !isImmutableType();
+    }
+
+    /**
+     * Resets the field to its default value in {@code readInto()} unless it was set. Mutable values such as models and
+     * lists are never shared with the {@code defaults} instance, but taken from a new instance, which is created once
+     * per call into {@code fresh}.
+     *
+     * @param object      A name of the target object
+     * @param setFlag     A boolean variable set by {@link #buildReadCodeBlock}
+     * @param fresh       A variable of the model type for the new instance, which is {@code null} until it is needed
+     * @param newInstance An expression to create an instance of the model
+     * @return Statements to reset the field
+     */
+    public CodeBlock buildResetCodeBlock(String object, String setFlag, String fresh, CodeBlock newInstance) {
         CodeBlock.Builder block = CodeBlock.builder();
-        if ((mustSet || isKotlin && !nullable && !hasDeclaredDefault) && type.isPrimitive()) {
-            block.addStatement("$LSet = true", fieldName);
+        block.beginControlFlow("if (!$L)", setFlag);
+        boolean reflection = isReadWithReflection() || isWrittenWithReflection();
+        if (reflection) {
+            block.beginControlFlow("try");
+        }
+        if (isImmutableType()) {
+            block.add(buildSetStatement(object, buildGetExpression(DEFAULTS)));
+        } else {
+            block.beginControlFlow("if ($L != null)", buildGetExpression(DEFAULTS));
+            block.beginControlFlow("if ($L == null)", fresh);
+            block.addStatement("$L = $L", fresh, newInstance);
+            block.endControlFlow();
+            block.add(buildSetStatement(object, buildGetExpression(fresh)));
+            block.nextControlFlow("else");
+            block.add(buildSetStatement(object, CodeBlock.of("null")));
+            block.endControlFlow();
+        }
+        if (reflection) {
+            block.nextControlFlow("catch ($T ex)", IllegalAccessException.class);
+            block.addStatement("throw new $T(ex)", AssertionError.class);
+            block.endControlFlow();
         }
+        block.endControlFlow();
         return block.build();
     }
 
-    public CodeBlock buildMustSetCheckFlagCodeBlock(String className) {
+    public CodeBlock buildMustSetCheckFlagCodeBlock(String className, String setFlag) {
         CodeBlock.Builder block = CodeBlock.builder();
-        if ((mustSet || isKotlin && !nullable && !hasDeclaredDefault) && type.isPrimitive()) {
-            block.beginControlFlow("if (!$LSet)", fieldName);
+        if (hasMustSetFlag()) {
+            block.beginControlFlow("if (!$L)", setFlag);
             block.addStatement("throw new $T(\"$L.$L must be set\")", JsonGracefulException.class, className, fieldName);
             block.endControlFlow();
         }
         return block.build();
     }
 
+    /**
+     * Rough estimates of the bytecode size of the generated blocks, measured on javac output. They decide when
+     * {@link TypeAdapterFactoryWriter} splits read and write methods to stay under HotSpot's {@code HugeMethodLimit}.
+     *
+     * @return The estimated size of {@link #buildReadCodeBlock} in bytes
+     */
+    public int estimateReadCodeSize() {
+        int size = 90;
+        if (isStrictRead()) {
+            size += 30;
+        }
+        if (isWrittenWithReflection()) {
+            size += 15;
+        }
+        if (hasMustSetFlag()) {
+            size += 10;
+        }
+        return size;
+    }
+
+    /**
+     * @return The estimated size of {@link #buildResetCodeBlock} in bytes
+     */
+    public int estimateResetCodeSize() {
+        int size = isImmutableType() ? 15 : 40;
+        if (isReadWithReflection() || isWrittenWithReflection()) {
+            size += 35;
+        }
+        return size;
+    }
+
+    /**
+     * @return The estimated size of {@link #buildWriteBlock} in bytes
+     */
+    public int estimateWriteCodeSize() {
+        return isReadWithReflection() ? 55 : 30;
+    }
+
+    /**
+     * @return The estimated size of {@link #buildNullCheckCodeBlock} and {@link #buildMustSetCheckFlagCodeBlock}
+     */
+    public int estimateCheckCodeSize() {
+        int size = 0;
+        if ((nonNull || isKotlin && !nullable && !hasDeclaredDefault) && !type.isPrimitive()) {
+            size += isReadWithReflection() ? 45 : 20;
+        }
+        if (hasMustSetFlag()) {
+            size += 20;
+        }
+        return size;
+    }
+
     private CodeBlock buildReadNullValueBlock(String reader) {
         CodeBlock.Builder block = CodeBlock.builder();
         block.beginControlFlow("if ($L.peek() == $T.$L)", reader, JsonToken.class, JsonToken.NULL);
@@ -3,10 +3,10 @@ package com.github.gfx.static_gson
 import com.github.gfx.static_gson.annotation.JsonSerializable
 import com.squareup.javapoet.ClassName
 import com.squareup.javapoet.TypeName
-import org.jetbrains.kotlin.metadata.jvm.deserialization.JvmProtoBufUtil
 import org.jetbrains.kotlin.serialization.deserialization.getName
 import java.util.*
 import javax.lang.model.element.Modifier
+import javax.lang.model.element.NestingKind
 import javax.lang.model.element.TypeElement
 import javax.lang.model.element.VariableElement
 import javax.tools.Diagnostic
@@ -19,15 +19,27 @@ class ModelDefinition(private val context: StaticGsonContext, element: TypeEleme
 
     val modelType: ClassName
 
-    val typeRegistry = TypeRegistry()
+    val typeRegistry = TypeRegistry(context.lazyAdapters)
 
     private val fields: MutableList<FieldDefinition>
 
     val isKotlin: Boolean
 
+    /**
+     * `true` if generated type adapters can instantiate the model with `new`. Otherwise they use `ObjectConstructor`,
+     * which may fall back to `UnsafeAllocator` and skip field initializers.
+     */
+    val hasDirectConstructor: Boolean
+
+    /**
+     * The primary constructor of a Kotlin class that generated type adapters call with the values they have read, or
+     * `null` if they assign fields
+     */
+    val constructor: ConstructorDefinition?
+
     val complexTypes: Set<TypeName>
         get() = fields
-                .filter { !it.isSimpleType }
+                .filter { !it.isSimpleType && !it.isLongType }
                 .map { it.type }
                 .toSet()
 
@@ -39,12 +51,15 @@ class ModelDefinition(private val context: StaticGsonContext, element: TypeEleme
 
         val annotation = element.getAnnotation(JsonSerializable::class.java)
         isKotlin = AnnotationHelper.hasAnnotationWithName(element, METADATA_ANNOTATION_NAME)
+        hasDirectConstructor = !element.modifiers.contains(Modifier.ABSTRACT)
+                && (element.nestingKind != NestingKind.MEMBER || element.modifiers.contains(Modifier.STATIC))
+                && AnnotationHelper.hasNonPrivateParameterlessConstructor(element)
 
-        if (isKotlin && !AnnotationHelper.hasPublicParameterlessConstructor(element)) {
+        constructor = if (isKotlin) ConstructorDefinition.find(context, element, getSerializedFields(element)) else null
 
-            val metadata = kotlin.AnnotationHelper.getMetadata(element)!!
+        if (isKotlin && constructor == null && !AnnotationHelper.hasPublicParameterlessConstructor(element)) {
 
-            val (nameResolver, classProto) = JvmProtoBufUtil.readClassDataFrom(metadata.d1, metadata.d2)
+            val (nameResolver, classProto) = context.getKotlinClassData(element)!!
 
             if (classProto.constructorList.size > 1) {
                 context.processingEnv.messager.printMessage(Diagnostic.Kind.ERROR,
@@ -72,7 +87,7 @@ class ModelDefinition(private val context: StaticGsonContext, element: TypeEleme
         fields = ArrayList()
 
         while (true) {
-            fields.addAll(extractFields(annotation, element, isKotlin, context))
+            fields.addAll(extractFields(annotation, element, isKotlin))
             if (element.superclass.toString() == Any::class.java.name) {
                 // reached the root
                 break
@@ -90,6 +105,29 @@ class ModelDefinition(private val context: StaticGsonContext, element: TypeEleme
 
             element = superElement
         }
+
+        reportDuplicateNames()
+    }
+
+    /**
+     * Reports serialized names, including alternates, that more than one field declares, as Gson does at runtime.
+     * [JsonNameTable] can dispatch a name to only one of them.
+     */
+    private fun reportDuplicateNames() {
+        val owners = HashMap<String, FieldDefinition>()
+        for (field in fields) {
+            for (name in field.serializedNameCandidates) {
+                val owner = owners.put(name, field) ?: continue
+                context.processingEnv.messager.printMessage(Diagnostic.Kind.ERROR,
+                        String.format("%s declares multiple JSON fields named \"%s\": %s and %s",
+                                this.element, name, describe(owner), describe(field)),
+                        field.element)
+            }
+        }
+    }
+
+    private fun describe(field: FieldDefinition): String {
+        return "${field.element.enclosingElement}.${field.element.simpleName}"
     }
 
     fun getFields(): List<FieldDefinition> {
@@ -97,20 +135,24 @@ class ModelDefinition(private val context: StaticGsonContext, element: TypeEleme
     }
 
 
-    private fun extractFields(
-            config: JsonSerializable,
-            typeElement: TypeElement,
-            isKotlin: Boolean,
-            context: StaticGsonContext): List<FieldDefinition> {
-
+    private fun getSerializedFields(typeElement: TypeElement): List<VariableElement> {
         return typeElement.enclosedElements
                 .filter { element -> element is VariableElement }
                 .map { element -> element as VariableElement }
                 .filter { element -> !element.modifiers.contains(Modifier.TRANSIENT) }
                 .filter { element -> !element.modifiers.contains(Modifier.STATIC) }
+    }
+
+    private fun extractFields(
+            config: JsonSerializable,
+            typeElement: TypeElement,
+            isKotlin: Boolean): List<FieldDefinition> {
+
+        return getSerializedFields(typeElement)
                 .map { element ->
-                    FieldDefinition(config, element, isKotlin,
-                            AnnotationHelper.hasDeclaredDefault(typeElement, element))
+                    FieldDefinition(config, element, modelType.packageName(), isKotlin,
+                            AnnotationHelper.hasDeclaredDefault(context, typeElement, element),
+                            constructor?.isParameter(element) ?: false)
                 }
 
     }
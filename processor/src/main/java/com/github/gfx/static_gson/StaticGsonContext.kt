@@ -1,21 +1,78 @@
 package com.github.gfx.static_gson
 
+import com.squareup.javapoet.ClassName
+import com.squareup.javapoet.JavaFile
 import com.squareup.javapoet.TypeName
 
+import org.jetbrains.kotlin.metadata.ProtoBuf
+import org.jetbrains.kotlin.metadata.jvm.deserialization.JvmNameResolver
+import org.jetbrains.kotlin.metadata.jvm.deserialization.JvmProtoBufUtil
+
+import java.io.IOException
 import java.util.HashMap
+import java.util.concurrent.ConcurrentHashMap
 
-import javax.annotation.processing.Filer
 import javax.annotation.processing.ProcessingEnvironment
 import javax.annotation.processing.RoundEnvironment
+import javax.lang.model.element.ElementKind
+import javax.lang.model.element.Modifier
 import javax.lang.model.element.TypeElement
+import javax.lang.model.type.ArrayType
+import javax.lang.model.type.DeclaredType
+import javax.lang.model.type.TypeKind
 import javax.lang.model.type.TypeMirror
+import javax.lang.model.type.WildcardType
+import javax.tools.StandardLocation
 
 class StaticGsonContext(val roundEnv: RoundEnvironment, val processingEnv: ProcessingEnvironment) {
 
     val modelMap: MutableMap<TypeName, ModelDefinition> = HashMap()
 
-    val synchronizedFiler: Filer
-        get() = SynchronizedFiler(processingEnv.filer)
+    val enumMap: MutableMap<TypeName, EnumDefinition> = HashMap()
+
+    /**
+     * The time to define and write each model, in nanoseconds
+     */
+    val modelNanos: MutableMap<TypeName, Long> = ConcurrentHashMap()
+
+    /**
+     * Whether each enum referenced by models gets a type adapter, as it is decided once per round
+     */
+    private val compiledEnums: MutableMap<TypeElement, Boolean> = HashMap()
+
+    private val kotlinClassData: MutableMap<TypeElement, Pair<JvmNameResolver, ProtoBuf.Class>?> = HashMap()
+
+    val lazyAdapters: Boolean
+        get() = processingEnv.options[StaticGsonProcessor.OPTION_LAZY_ADAPTERS]?.toBoolean() ?: false
+
+    val readInto: Boolean
+        get() = processingEnv.options[StaticGsonProcessor.OPTION_READ_INTO]?.toBoolean() ?: false
+
+    val isolating: Boolean
+        get() = processingEnv.options[StaticGsonProcessor.OPTION_ISOLATING]?.toBoolean() ?: false
+
+    /**
+     * The number of threads that generate type adapters
+     */
+    val workers: Int
+        get() = processingEnv.options[StaticGsonProcessor.OPTION_WORKERS]?.toInt()?.coerceAtLeast(1)
+                ?: Runtime.getRuntime().availableProcessors()
+
+    val synchronizedFiler = SynchronizedFiler(processingEnv.filer)
+
+    /**
+     * Renders [javaFile] on the calling thread, so that only creating and writing the source file is serialized
+     */
+    fun write(javaFile: JavaFile) {
+        val typeName = javaFile.typeSpec.name
+        val name = if (javaFile.packageName.isEmpty()) typeName else "${javaFile.packageName}.$typeName"
+        try {
+            synchronizedFiler.writeSourceFile(name, javaFile.toString(),
+                    *javaFile.typeSpec.originatingElements.toTypedArray())
+        } catch (e: IOException) {
+            throw ProcessingException(e)
+        }
+    }
 
     fun getTypeElement(type: String): TypeElement? {
         return processingEnv.elementUtils.getTypeElement(type)
@@ -28,4 +85,89 @@ class StaticGsonContext(val roundEnv: RoundEnvironment, val processingEnv: Proce
     fun addModel(model: ModelDefinition) {
         modelMap[model.modelType] = model
     }
+
+    fun addModelNanos(modelType: TypeName, nanos: Long) {
+        modelNanos.merge(modelType, nanos, Long::plus)
+    }
+
+    /**
+     * @return The decoded `@Metadata` of a Kotlin class, or `null` for other classes. It is decoded once per round,
+     * however many fields, constructors and subclasses look it up.
+     */
+    @Synchronized
+    fun getKotlinClassData(element: TypeElement): Pair<JvmNameResolver, ProtoBuf.Class>? {
+        if (kotlinClassData.containsKey(element)) {
+            return kotlinClassData[element]
+        }
+        val classData = kotlin.AnnotationHelper.getMetadata(element)
+                ?.let { JvmProtoBufUtil.readClassDataFrom(it.d1, it.d2) }
+        kotlinClassData[element] = classData
+        return classData
+    }
+
+    /**
+     * Adds the enums in the field types of [model], including type arguments and array components. Enums from the
+     * classpath are left to Gson, as other modules may generate the same type adapters.
+     *
+     * With [isolating], all enums are left to Gson, as the type adapter of an enum would originate from every model
+     * that references it, while Gradle requires exactly one originating element per file.
+     */
+    fun addEnums(model: ModelDefinition) {
+        if (isolating) {
+            return
+        }
+        for (field in model.getFields()) {
+            addEnums(model, field.element.asType())
+        }
+    }
+
+    private fun addEnums(model: ModelDefinition, type: TypeMirror) {
+        when (type.kind) {
+            TypeKind.ARRAY -> addEnums(model, (type as ArrayType).componentType)
+            TypeKind.WILDCARD -> (type as WildcardType).extendsBound?.let { addEnums(model, it) }
+            TypeKind.DECLARED -> {
+                val declaredType = type as DeclaredType
+                declaredType.typeArguments.forEach { addEnums(model, it) }
+                val element = declaredType.asElement() as TypeElement
+                if (element.kind == ElementKind.ENUM
+                        && compiledEnums.getOrPut(element) { isCompiledAndAccessible(element) }) {
+                    enumMap.getOrPut(ClassName.get(element)) { EnumDefinition(element) }.models.add(model.element)
+                }
+            }
+            else -> {
+            }
+        }
+    }
+
+    /**
+     * @return `true` if [element] is compiled from the sources of this module and visible from its package. In
+     * aggregating incremental builds, an unchanged enum is not compiled again, but its class file is still in the class
+     * output, unlike the enums of other modules.
+     */
+    private fun isCompiledAndAccessible(element: TypeElement): Boolean {
+        var outermost = element
+        while (true) {
+            if (outermost.modifiers.contains(Modifier.PRIVATE)) {
+                return false
+            }
+            val enclosing = outermost.enclosingElement as? TypeElement ?: break
+            outermost = enclosing
+        }
+        return roundEnv.rootElements.contains(outermost) || isInClassOutput(outermost)
+    }
+
+    private fun isInClassOutput(topLevelElement: TypeElement): Boolean {
+        val packageName = processingEnv.elementUtils.getPackageOf(topLevelElement).qualifiedName.toString()
+        return try {
+            processingEnv.filer
+                    .getResource(StandardLocation.CLASS_OUTPUT, packageName, "${topLevelElement.simpleName}.class")
+                    .openInputStream()
+                    .close()
+            true
+        } catch (e: IOException) {
+            false
+        } catch (e: IllegalArgumentException) {
+            false
+        }
+    }
 }
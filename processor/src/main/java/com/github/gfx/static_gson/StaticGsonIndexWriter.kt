@@ -0,0 +1,112 @@
+package com.github.gfx.static_gson
+
+import com.google.gson.Gson
+
+import com.squareup.javapoet.ClassName
+import com.squareup.javapoet.CodeBlock
+import com.squareup.javapoet.FieldSpec
+import com.squareup.javapoet.JavaFile
+import com.squareup.javapoet.MethodSpec
+import com.squareup.javapoet.ParameterizedTypeName
+import com.squareup.javapoet.TypeName
+import com.squareup.javapoet.TypeSpec
+import com.squareup.javapoet.TypeVariableName
+import com.squareup.javapoet.WildcardTypeName
+
+import javax.lang.model.element.Modifier
+
+/**
+ * Writes an index of the type adapters generated for [packageName], so that [StaticGsonTypeAdapterFactory]
+ * finds them with a hash lookup instead of a class loader lookup per type.
+ *
+ * @param types The models and enums of the package
+ */
+class StaticGsonIndexWriter(private val context: StaticGsonContext, private val packageName: String, types: Collection<ClassName>) {
+
+    private val types: List<ClassName> = types.sortedBy { it.reflectionName() }
+
+    private val classType: ParameterizedTypeName = ParameterizedTypeName.get(ClassName.get(Class::class.java),
+            WildcardTypeName.subtypeOf(Any::class.java))
+
+    internal fun buildTypeSpec(): TypeSpec {
+        val indexName = StaticGsonTypeAdapterFactory.getIndexName(packageName).substringAfterLast('.')
+        val indexClass = TypeSpec.classBuilder(indexName)
+        indexClass.addJavadoc("This class is dynamically loaded by {@link \$T}.\n",
+                Types.StaticGsonTypeAdapterFactory)
+        indexClass.addAnnotation(Annotations.staticGsonGenerated())
+        indexClass.addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+        indexClass.addSuperinterface(Types.StaticGsonIndex)
+        for (type in types) {
+            (context.modelMap[type]?.element ?: context.enumMap[type]?.element)?.let {
+                indexClass.addOriginatingElement(it)
+            }
+        }
+
+        val mapType = ParameterizedTypeName.get(ClassName.get("java.util", "Map"), classType, TypeName.INT.box())
+        indexClass.addField(FieldSpec.builder(mapType, "INDEX", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new \$T<>(\$L)", ClassName.get("java.util", "HashMap"), types.size * 4 / 3 + 1)
+                .build())
+
+        val staticBlock = CodeBlock.builder()
+        for ((index, type) in types.withIndex()) {
+            staticBlock.addStatement("INDEX.put(\$T.class, \$L)", type, index)
+        }
+        indexClass.addStaticBlock(staticBlock.build())
+
+        indexClass.addMethod(MethodSpec.methodBuilder("contains")
+                .addAnnotation(Override::class.java)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(TypeName.BOOLEAN)
+                .addParameter(classType, "type")
+                .addStatement("return INDEX.containsKey(type)")
+                .build())
+
+        indexClass.addMethod(buildCreateMethod())
+
+        return indexClass.build()
+    }
+
+    /**
+     * @return `public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken, ObjectConstructor<T> objectConstructor)`
+     */
+    private fun buildCreateMethod(): MethodSpec {
+        val t = TypeVariableName.get("T")
+        val method = MethodSpec.methodBuilder("create")
+                .addAnnotation(Override::class.java)
+                .addAnnotation(Annotations.suppressWarnings("unchecked", "rawtypes"))
+                .addModifiers(Modifier.PUBLIC)
+                .addTypeVariable(t)
+                .returns(ParameterizedTypeName.get(Types.TypeAdapter, t))
+                .addParameter(Gson::class.java, "gson")
+                .addParameter(ParameterizedTypeName.get(Types.TypeToken, t), "typeToken")
+                .addParameter(ParameterizedTypeName.get(Types.ObjectConstructor, t), "objectConstructor")
+
+        method.addStatement("\$T index = INDEX.get(typeToken.getRawType())", TypeName.INT.box())
+        method.beginControlFlow("if (index == null)")
+        method.addStatement("return null")
+        method.endControlFlow()
+
+        method.beginControlFlow("switch (index)")
+        for ((index, type) in types.withIndex()) {
+            val typeAdapterClass = ClassName.get(packageName, TypeAdapterFactoryWriter.createTypeAdapterClassName(type))
+            method.addCode("case \$L:\n", index)
+            method.addStatement("return (\$T) new \$T(gson, (\$T) typeToken, (\$T) objectConstructor)",
+                    Types.TypeAdapter, typeAdapterClass, Types.TypeToken, Types.ObjectConstructor)
+        }
+        method.addCode("default:\n")
+        method.addStatement("return null")
+        method.endControlFlow() // switch
+
+        return method.build()
+    }
+
+    private fun buildJavaFile(): JavaFile {
+        return JavaFile.builder(packageName, buildTypeSpec())
+                .skipJavaLangImports(true)
+                .build()
+    }
+
+    fun write() {
+        context.write(buildJavaFile())
+    }
+}
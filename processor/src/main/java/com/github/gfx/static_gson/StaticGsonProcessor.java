@@ -1,24 +1,98 @@
 package com.github.gfx.static_gson;
 
 import com.github.gfx.static_gson.annotation.JsonSerializable;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.TypeName;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import javax.tools.Diagnostic;
 
 @SupportedSourceVersion(SourceVersion.RELEASE_8)
 @SupportedAnnotationTypes("com.github.gfx.static_gson.annotation.*")
+@SupportedOptions({
+        StaticGsonProcessor.OPTION_LAZY_ADAPTERS,
+        StaticGsonProcessor.OPTION_READ_INTO,
+        StaticGsonProcessor.OPTION_ISOLATING,
+        StaticGsonProcessor.OPTION_WORKERS
+})
 public class StaticGsonProcessor extends AbstractProcessor {
 
+    /**
+     * {@code true} to make generated type adapters resolve the adapters of their field types on first use
+     */
+    public static final String OPTION_LAZY_ADAPTERS = "staticgson.lazyAdapters";
+
+    /**
+     * {@code true} to make generated type adapters implement {@link ReusableTypeAdapter}
+     */
+    public static final String OPTION_READ_INTO = "staticgson.readInto";
+
+    /**
+     * {@code true} to skip the per-package {@code StaticGsonIndex} and the type adapters of enums, so that Gradle can
+     * process each model in isolation and regenerate only the type adapters of changed models
+     */
+    public static final String OPTION_ISOLATING = "staticgson.isolating";
+
+    /**
+     * The number of threads that generate type adapters, or {@code 1} to generate them on the processing thread.
+     * Defaults to the number of available processors.
+     */
+    public static final String OPTION_WORKERS = "staticgson.workers";
+
+    /**
+     * The processor is declared {@code dynamic} in {@code META-INF/gradle/incremental.annotation.processors}, and tells
+     * Gradle its incremental type with one of these options
+     */
+    static final String GRADLE_ISOLATING = "org.gradle.annotation.processing.isolating";
+
+    static final String GRADLE_AGGREGATING = "org.gradle.annotation.processing.aggregating";
+
+    /**
+     * The number of the slowest models to report
+     */
+    static final int SLOWEST_MODEL_COUNT = 3;
+
+    /**
+     * The packages whose index has been written in an earlier round. The models of such a package in a later round are
+     * found by their class names, as the index can't be written again.
+     */
+    private final Set<String> indexedPackages = new HashSet<>();
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        Set<String> options = new HashSet<>(super.getSupportedOptions());
+        // an index has all the models of a package, so it is regenerated whenever any of them changes
+        options.add(Boolean.parseBoolean(processingEnv.getOptions().get(OPTION_ISOLATING))
+                ? GRADLE_ISOLATING : GRADLE_AGGREGATING);
+        return options;
+    }
+
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
-        if (annotations.isEmpty()) {
+        // a round of generated sources has @StaticGsonGenerated but no models
+        Set<? extends Element> elements = roundEnv.getElementsAnnotatedWith(JsonSerializable.class);
+        if (elements.isEmpty()) {
             return true;
         }
 
@@ -26,20 +100,101 @@ public class StaticGsonProcessor extends AbstractProcessor {
 
         StaticGsonContext context = new StaticGsonContext(roundEnv, processingEnv);
 
-        roundEnv.getElementsAnnotatedWith(JsonSerializable.class)
-                .stream()
-                .map(element -> new ModelDefinition(context, (TypeElement) element))
-                .forEach(context::addModel);
+        elements.stream()
+                .forEach(element -> {
+                    long start = System.nanoTime();
+                    ModelDefinition model = new ModelDefinition(context, (TypeElement) element);
+                    context.addModel(model);
+                    context.addModelNanos(model.getModelType(), System.nanoTime() - start);
+                });
 
-        context.getModelMap().values()
-                .parallelStream()
-                .map(model -> new TypeAdapterFactoryWriter(context, model))
-                .forEach(TypeAdapterFactoryWriter::write);
+        context.getModelMap().values().forEach(context::addEnums);
+
+        List<Runnable> tasks = new ArrayList<>();
+        for (ModelDefinition model : context.getModelMap().values()) {
+            tasks.add(() -> {
+                long start = System.nanoTime();
+                new TypeAdapterFactoryWriter(context, model).write();
+                context.addModelNanos(model.getModelType(), System.nanoTime() - start);
+            });
+        }
+        for (EnumDefinition definition : context.getEnumMap().values()) {
+            tasks.add(() -> new EnumTypeAdapterWriter(context, definition).write());
+        }
+        if (!context.getIsolating()) {
+            Stream.concat(
+                    context.getModelMap().values().stream().map(ModelDefinition::getModelType),
+                    context.getEnumMap().values().stream().map(EnumDefinition::getEnumType))
+                    .collect(Collectors.groupingBy(ClassName::packageName))
+                    .forEach((packageName, types) -> {
+                        if (indexedPackages.add(packageName)) {
+                            tasks.add(() -> new StaticGsonIndexWriter(context, packageName, types).write());
+                        }
+                    });
+        }
+        runTasks(tasks, context.getWorkers());
 
         processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
                 "[StaticGson] processed " + context.getModelMap().size() + " of models in "
-                        + (System.currentTimeMillis() - t0) + "ms");
+                        + (System.currentTimeMillis() - t0) + "ms with " + context.getWorkers() + " workers"
+                        + formatModelTimes(context.getModelNanos()));
 
         return true;
     }
+
+    /**
+     * Runs {@code tasks} on a pool of {@code workers} threads instead of the common pool of parallel streams, which the
+     * build tool and other processors share. Rethrows the first failure.
+     */
+    static void runTasks(List<Runnable> tasks, int workers) {
+        if (workers <= 1) {
+            tasks.forEach(Runnable::run);
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Runnable task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ProcessingException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return The average time per model and the slowest models, e.g. {@code " (1.20ms per model, slowest: Foo 9.80ms)"}
+     */
+    static String formatModelTimes(Map<TypeName, Long> modelNanos) {
+        if (modelNanos.isEmpty()) {
+            return "";
+        }
+        long totalNanos = modelNanos.values().stream().mapToLong(Long::longValue).sum();
+        String slowest = modelNanos.entrySet()
+                .stream()
+                .sorted(Map.Entry.<TypeName, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(SLOWEST_MODEL_COUNT)
+                .map(entry -> entry.getKey() + " " + formatMillis(entry.getValue()))
+                .collect(Collectors.joining(", "));
+        return " (" + formatMillis(totalNanos / modelNanos.size()) + " per model, slowest: " + slowest + ")";
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.2fms", nanos / 1e6);
+    }
 }
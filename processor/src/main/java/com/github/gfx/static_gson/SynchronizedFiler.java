@@ -1,6 +1,7 @@
 package com.github.gfx.static_gson;
 
 import java.io.IOException;
+import java.io.Writer;
 
 import javax.annotation.processing.Filer;
 import javax.lang.model.element.Element;
@@ -16,6 +17,20 @@ public class SynchronizedFiler implements Filer {
         this.parent = parent;
     }
 
+    /**
+     * Creates and writes a source file while holding the lock, as {@code Filer} and the files it creates are not
+     * thread-safe. The content should be rendered before, outside the lock.
+     */
+    public void writeSourceFile(CharSequence name, String content, Element... originatingElements)
+            throws IOException {
+        synchronized (parent) {
+            JavaFileObject file = parent.createSourceFile(name, originatingElements);
+            try (Writer writer = file.openWriter()) {
+                writer.write(content);
+            }
+        }
+    }
+
     @Override
     public JavaFileObject createSourceFile(CharSequence name,
             Element... originatingElements)
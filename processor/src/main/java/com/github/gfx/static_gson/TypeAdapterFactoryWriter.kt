@@ -6,6 +6,8 @@ import com.google.gson.stream.JsonToken
 import com.google.gson.stream.JsonWriter
 
 import com.squareup.javapoet.ClassName
+import com.squareup.javapoet.CodeBlock
+import com.squareup.javapoet.FieldSpec
 import com.squareup.javapoet.JavaFile
 import com.squareup.javapoet.MethodSpec
 import com.squareup.javapoet.ParameterizedTypeName
@@ -13,6 +15,7 @@ import com.squareup.javapoet.TypeName
 import com.squareup.javapoet.TypeSpec
 
 import java.io.IOException
+import java.lang.reflect.Constructor
 import java.util.stream.Collectors
 
 import javax.lang.model.element.Modifier
@@ -27,6 +30,16 @@ class TypeAdapterFactoryWriter(private val context: StaticGsonContext, private v
 
     private val objectConstructor: ParameterizedTypeName
 
+    /**
+     * The holder of constructor arguments for read methods split into chunks
+     */
+    private val arguments: ClassName
+
+    /**
+     * An expression to create an instance of the model
+     */
+    private val newInstance: CodeBlock
+
     internal val packageName: String
         get() = model.modelType.packageName()
 
@@ -34,44 +47,150 @@ class TypeAdapterFactoryWriter(private val context: StaticGsonContext, private v
         typeAdapter = Types.getTypeAdapter(model.modelType)
         typeToken = ParameterizedTypeName.get(Types.TypeToken, model.modelType)
         typeAdapterClassName = createTypeAdapterClassName(model.modelType)
-        objectConstructor = ParameterizedTypeName.get(ClassName.get("com.google.gson.internal", "ObjectConstructor"), model.modelType)
+        objectConstructor = ParameterizedTypeName.get(Types.ObjectConstructor, model.modelType)
+        arguments = ClassName.get(packageName, typeAdapterClassName, "Arguments")
+        newInstance = if (model.hasDirectConstructor) {
+            // a plain allocation, which the JIT can inline and scalar-replace
+            CodeBlock.of("new \$T()", model.modelType)
+        } else {
+            CodeBlock.of("objectConstructor.construct()")
+        }
     }
 
     internal fun buildTypeSpec(): TypeSpec {
         val typeAdapterClass = TypeSpec.classBuilder(typeAdapterClassName)
-        typeAdapterClass.addJavadoc("This class is dynamically loaded by {@link \$T}.\n",
-                Types.StaticGsonTypeAdapterFactory)
+        typeAdapterClass.addJavadoc("This class is instantiated by the package's {@link \$T}.\n",
+                Types.StaticGsonIndex)
         typeAdapterClass.addAnnotation(Annotations.suppressWarnings("unused"))
         typeAdapterClass.addAnnotation(Annotations.staticGsonGenerated())
         typeAdapterClass.addModifiers(Modifier.PUBLIC)
+        typeAdapterClass.addOriginatingElement(model.element)
         typeAdapterClass.superclass(typeAdapter)
+        if (context.readInto) {
+            typeAdapterClass.addSuperinterface(ParameterizedTypeName.get(Types.ReusableTypeAdapter, model.modelType))
+        }
 
         for (type in model.complexTypes) {
             typeAdapterClass.addField(model.typeRegistry.getField(type))
         }
 
-        typeAdapterClass.addField(objectConstructor, "objectConstructor", Modifier.FINAL, Modifier.PRIVATE)
+        for (field in model.getFields()) {
+            field.accessorField?.let { typeAdapterClass.addField(it) }
+            typeAdapterClass.addField(field.jsonNameField)
+        }
 
-        typeAdapterClass.addMethod(MethodSpec.constructorBuilder()
+        typeAdapterClass.addField(buildNameTableField())
+        for ((name, _) in longValueWriters) {
+            typeAdapterClass.addField(Types.LongValueWriter, name, Modifier.FINAL, Modifier.PRIVATE)
+        }
+        model.constructor?.let {
+            if (it.hasDeclaredDefaults) {
+                typeAdapterClass.addField(buildDefaultsConstructorField(it))
+            }
+        }
+        if (needsObjectConstructor) {
+            typeAdapterClass.addField(objectConstructor, "objectConstructor", Modifier.FINAL, Modifier.PRIVATE)
+        }
+        if (needsDefaults) {
+            typeAdapterClass.addField(model.modelType, FieldDefinition.DEFAULTS, Modifier.FINAL, Modifier.PRIVATE)
+        }
+
+        val constructor = MethodSpec.constructorBuilder()
                 .addAnnotation(Annotations.suppressWarnings("unchecked"))
                 .addModifiers(Modifier.PUBLIC)
                 .addParameter(Gson::class.java, "gson")
                 .addParameter(typeToken, "typeToken")
                 .addParameter(objectConstructor, "objectConstructor")
                 .addCode(model.typeRegistry.fieldInitialization)
-                .addStatement("this.objectConstructor = objectConstructor")
-                .build())
+        for ((name, type) in longValueWriters) {
+            // resolved once, as the policy of a Gson instance never changes
+            constructor.addStatement("this.\$L = \$T.of(gson, \$T.class)", name, Types.LongValueWriter, type)
+        }
+        if (needsObjectConstructor) {
+            constructor.addStatement("this.objectConstructor = objectConstructor")
+        }
+        if (needsDefaults) {
+            constructor.addStatement("this.\$L = \$L", FieldDefinition.DEFAULTS, newInstance)
+        }
+        typeAdapterClass.addMethod(constructor.build())
 
-        typeAdapterClass.addMethod(buildWriteMethod())
-        typeAdapterClass.addMethod(buildReadMethod())
+        typeAdapterClass.addMethods(buildWriteMethods())
+        typeAdapterClass.addMethods(buildReadMethods())
+        if (model.constructor != null && readChunks.size > 1) {
+            typeAdapterClass.addType(buildArgumentsType())
+        }
+        if (context.readInto) {
+            typeAdapterClass.addMethods(buildReadIntoMethods())
+        }
 
         return typeAdapterClass.build()
     }
 
+    private val needsObjectConstructor: Boolean
+        get() = !model.hasDirectConstructor && model.constructor == null
+
+    /**
+     * `readInto()` of a model read with its constructor creates a new instance, so it has no defaults to reset to
+     */
+    private val needsDefaults: Boolean
+        get() = context.readInto && model.constructor == null
+
+    /**
+     * @return `private static final Constructor<T> DEFAULTS_CONSTRUCTOR`, the synthetic constructor that evaluates
+     * default arguments
+     */
+    private fun buildDefaultsConstructorField(constructor: ConstructorDefinition): FieldSpec {
+        val parameterTypes = CodeBlock.builder()
+        for (parameter in constructor.parameters) {
+            parameterTypes.add(", \$T.class", parameter.rawType)
+        }
+        return FieldSpec.builder(ParameterizedTypeName.get(ClassName.get(Constructor::class.java), model.modelType),
+                DEFAULTS_CONSTRUCTOR, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("\$T.getDefaultsConstructor(\$T.class\$L)", Types.ReflectionHelper, model.modelType,
+                        parameterTypes.build())
+                .build()
+    }
+
     /**
-     * @return `public void write(JsonWriter out, T value) throws IOException`
+     * @return The names of `LongValueWriter` fields and the types they write, for the `long` and `Long` fields of
+     * the model
      */
-    private fun buildWriteMethod(): MethodSpec {
+    private val longValueWriters: List<Pair<String, TypeName>>
+        get() = model.getFields()
+                .filter { it.isLongType }
+                .map {
+                    if (it.type.isPrimitive) {
+                        FieldDefinition.LONG_VALUE_WRITER to TypeName.LONG
+                    } else {
+                        FieldDefinition.BOXED_LONG_VALUE_WRITER to TypeName.LONG.box()
+                    }
+                }
+                .distinct()
+
+    /**
+     * @return `private static final JsonNameTable NAMES`, with all the serialized name candidates in field order
+     */
+    private fun buildNameTableField(): FieldSpec {
+        val names = CodeBlock.builder()
+        var first = true
+        for (field in model.getFields()) {
+            for (name in field.serializedNameCandidates) {
+                names.add(if (first) "\$S" else ", \$S", name)
+                first = false
+            }
+        }
+        return FieldSpec.builder(Types.JsonNameTable, "NAMES", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new \$T(\$L)", Types.JsonNameTable, names.build())
+                .build()
+    }
+
+    /**
+     * @return `public void write(JsonWriter out, T value) throws IOException`, and its `write$N` chunks if it is too large
+     */
+    private fun buildWriteMethods(): List<MethodSpec> {
+        val chunks = splitIntoChunks(model.getFields()) { it.estimateWriteCodeSize() }
+        val methods = ArrayList<MethodSpec>()
+
         val method = MethodSpec.methodBuilder("write")
                 .addAnnotation(Override::class.java)
                 .addModifiers(Modifier.PUBLIC)
@@ -79,19 +198,52 @@ class TypeAdapterFactoryWriter(private val context: StaticGsonContext, private v
                 .addParameter(JsonWriter::class.java, "writer")
                 .addParameter(model.modelType, "value")
 
+        // allow null
+        method.beginControlFlow("if (value == null)")
+        method.addStatement("writer.nullValue()")
+        method.addStatement("return")
+        method.endControlFlow() // if
+
         method.addStatement("writer.beginObject()")
-        for (field in model.getFields()) {
-            method.addCode(field.buildWriteBlock(model.typeRegistry, "value", "writer"))
+        if (chunks.size == 1) {
+            for (field in model.getFields()) {
+                method.addCode(field.buildWriteBlock(model.typeRegistry, "value", "writer"))
+            }
+        } else {
+            chunks.forEachIndexed { i, chunk ->
+                method.addStatement("write\$\$\$L(writer, value)", i)
+
+                val chunkMethod = MethodSpec.methodBuilder("write\$$i")
+                        .addModifiers(Modifier.PRIVATE)
+                        .addException(IOException::class.java)
+                        .addParameter(JsonWriter::class.java, "writer")
+                        .addParameter(model.modelType, "value")
+                for (field in chunk) {
+                    chunkMethod.addCode(field.buildWriteBlock(model.typeRegistry, "value", "writer"))
+                }
+                methods.add(chunkMethod.build())
+            }
         }
         method.addStatement("writer.endObject()")
 
-        return method.build()
+        methods.add(0, method.build())
+        return methods
+    }
+
+    private val readChunks: List<List<FieldDefinition>> by lazy {
+        // read() calls the constructor itself only if it is not split
+        splitIntoChunks(model.getFields(), model.constructor?.estimateCallCodeSize() ?: 0) {
+            it.estimateReadCodeSize() + it.estimateCheckCodeSize()
+        }
     }
 
     /**
-     * @return `public T read(JsonReader in) throws IOException `
+     * @return `public T read(JsonReader in) throws IOException`, and its `read$N` and `check$N` chunks if it is too large
      */
-    private fun buildReadMethod(): MethodSpec {
+    private fun buildReadMethods(): List<MethodSpec> {
+        val chunks = readChunks
+        val methods = ArrayList<MethodSpec>()
+
         val method = MethodSpec.methodBuilder("read")
                 .addAnnotation(Override::class.java)
                 .addModifiers(Modifier.PUBLIC)
@@ -111,41 +263,341 @@ class TypeAdapterFactoryWriter(private val context: StaticGsonContext, private v
         //        method.addStatement("return null");
         //        method.endControlFlow(); // if
 
-        method.addStatement("\$T object = objectConstructor.construct()", model.modelType)
+        val constructor = model.constructor
+        if (constructor != null) {
+            if (chunks.size == 1) {
+                for (field in model.getFields()) {
+                    method.addCode(field.buildDeclareArgumentCodeBlock())
+                }
+                addReadLoop(method, false, null)
+                addConstructorCall(method, constructor, null, emptyMap())
+            } else {
+                method.addStatement("\$T arguments = new \$T()", arguments, arguments)
+                addChunkedReadLoop(method, chunks, methods, false, arguments, "arguments")
+                method.addStatement("return newInstance(\$L)",
+                        if (getSetFlags(false).isEmpty()) "arguments" else "arguments, set")
+                methods.addAll(buildNewInstanceMethods(constructor))
+            }
+        } else {
+            method.addStatement("\$T object = \$L", model.modelType, newInstance)
+
+            if (chunks.size == 1) {
+                addReadLoop(method, false, "object")
+            } else {
+                addChunkedReadLoop(method, chunks, methods, false, model.modelType, "object")
+            }
+
+            method.addStatement("return object", model.modelType)
+        }
+
+        methods.add(0, method.build())
+        return methods
+    }
+
+    /**
+     * Calls the primary constructor with the values read, or the synthetic constructor with a bitmask of the parameters
+     * to default if some of them are missing
+     *
+     * @param arguments The holder of constructor arguments, or `null` for local variables
+     * @param setFlags  The set flags of chunked read methods, or empty for local variables
+     * @param maskMethods The list to add `mask$N` methods to, which compute the bitmasks instead of [method], or `null`
+     */
+    private fun addConstructorCall(method: MethodSpec.Builder, constructor: ConstructorDefinition, arguments: String?,
+            setFlags: Map<FieldDefinition, String>, maskMethods: MutableList<MethodSpec>? = null) {
+        val values = ArrayList<String>()
+        val masks = IntArray(constructor.maskCount)
+        val defaults = Array(constructor.maskCount) { CodeBlock.builder() }
+        constructor.parameters.forEachIndexed { i, parameter ->
+            val field = model.getFields().firstOrNull { it.element == parameter.field }
+            if (field == null) {
+                values.add(FieldDefinition.getZeroValue(parameter.rawType))
+                masks[i / 32] = masks[i / 32] or (1 shl (i % 32))
+            } else {
+                values.add(if (arguments == null) field.argumentName else "$arguments.${field.argumentName}")
+                if (parameter.hasDeclaredDefault) {
+                    defaults[i / 32].beginControlFlow("if (\$L)",
+                            field.buildUseDefaultCondition(arguments, setFlags[field] ?: field.mustSetFlagName))
+                    // a mask$N method computes its bitmask in a local variable named mask
+                    val mask = if (maskMethods == null) "mask${i / 32}" else "mask"
+                    defaults[i / 32].addStatement("\$L |= 1 << \$L", mask, i % 32)
+                    defaults[i / 32].endControlFlow()
+                }
+            }
+        }
+        val newInstance = CodeBlock.of("new \$T(\$L)", model.modelType, values.joinToString(", "))
+
+        if (!constructor.hasDeclaredDefaults) {
+            method.addStatement("return \$L", newInstance)
+            return
+        }
+
+        masks.forEachIndexed { i, mask ->
+            val code = defaults[i].build()
+            if (maskMethods == null || code.isEmpty) {
+                method.addStatement("int mask\$L = \$L", i, mask)
+                method.addCode(code)
+            } else {
+                val maskMethod = MethodSpec.methodBuilder("mask\$$i")
+                        .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                        .returns(TypeName.INT)
+                        .addParameter(this.arguments, arguments)
+                        .addStatement("int mask = \$L", mask)
+                        .addCode(code)
+                        .addStatement("return mask")
+                if (setFlags.isNotEmpty()) {
+                    maskMethod.addParameter(BooleanArray::class.java, "set")
+                }
+                maskMethods.add(maskMethod.build())
+                method.addStatement("int mask\$L = mask\$\$\$L(\$L)", i, i,
+                        if (setFlags.isNotEmpty()) "$arguments, set" else arguments)
+            }
+        }
+        val maskNames = masks.indices.map { "mask$it" }
+        val defaultsCall = CodeBlock.of("\$T.newInstance(\$L, \$L, \$L, null)", Types.ReflectionHelper,
+                DEFAULTS_CONSTRUCTOR, values.joinToString(", "), maskNames.joinToString(", "))
+        if (masks.any { it != 0 }) {
+            // a parameter without a property is always defaulted
+            method.addStatement("return \$L", defaultsCall)
+            return
+        }
+        method.beginControlFlow("if ((\$L) == 0)", maskNames.joinToString(" | "))
+        method.addStatement("return \$L", newInstance)
+        method.endControlFlow()
+        method.addStatement("return \$L", defaultsCall)
+    }
+
+    /**
+     * @return `private T newInstance(Arguments arguments, boolean[] set)`, which calls the constructor for `read()`
+     * split into chunks, so that `read()` doesn't grow with the number of parameters, and its `mask$N` methods
+     */
+    private fun buildNewInstanceMethods(constructor: ConstructorDefinition): List<MethodSpec> {
+        val setFlags = getSetFlags(false)
+        val methods = ArrayList<MethodSpec>()
+        val method = MethodSpec.methodBuilder("newInstance")
+                .addModifiers(Modifier.PRIVATE)
+                .returns(model.modelType)
+                .addParameter(arguments, "arguments")
+        if (setFlags.isNotEmpty()) {
+            method.addParameter(BooleanArray::class.java, "set")
+        }
+        addConstructorCall(method, constructor, "arguments", setFlags, methods)
+        methods.add(0, method.build())
+        return methods
+    }
 
+    /**
+     * @return `private static final class Arguments`, with a field for each constructor argument
+     */
+    private fun buildArgumentsType(): TypeSpec {
+        val type = TypeSpec.classBuilder(arguments.simpleName())
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+        for (field in model.getFields()) {
+            type.addField(field.argumentField)
+        }
+        return type.build()
+    }
+
+    /**
+     * @return `public T readInto(JsonReader reader, T object) throws IOException`, which resets the fields that are not
+     * in the JSON, and its `readInto$N` and `reset$N` chunks if it is too large
+     */
+    private fun buildReadIntoMethods(): List<MethodSpec> {
+        val chunks = splitIntoChunks(model.getFields()) {
+            it.estimateReadCodeSize() + it.estimateResetCodeSize() + it.estimateCheckCodeSize()
+        }
+        val methods = ArrayList<MethodSpec>()
+
+        val method = MethodSpec.methodBuilder("readInto")
+                .addAnnotation(Override::class.java)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(model.modelType)
+                .addException(IOException::class.java)
+                .addParameter(JsonReader::class.java, "reader")
+                .addParameter(model.modelType, "object")
+
+        if (model.constructor != null) {
+            // constructor parameters may be final, so a new instance is read instead
+            method.addStatement("return read(reader)")
+            return listOf(method.build())
+        }
+
+        method.beginControlFlow("if (reader.peek() == \$T.\$L)", JsonToken::class.java, JsonToken.NULL)
+        method.addStatement("reader.nextNull()")
+        method.addStatement("return null")
+        method.endControlFlow() // if
+
+        if (chunks.size == 1) {
+            addReadLoop(method, true, "object")
+        } else {
+            addChunkedReadLoop(method, chunks, methods, true, model.modelType, "object")
+        }
+
+        method.addStatement("return object", model.modelType)
+
+        methods.add(0, method.build())
+        return methods
+    }
+
+    /**
+     * @param reuse `true` for `readInto()`, which reads into the current values of fields and then resets the fields
+     * that were not set
+     * @param objectName The target object, or `null` to read constructor arguments into local variables
+     */
+    private fun addReadLoop(method: MethodSpec.Builder, reuse: Boolean, objectName: String?) {
         // NonNull checks
         for (field in model.getFields()) {
-            method.addCode(field.buildMustDeclareFlagCodeBlock())
+            method.addCode(field.buildMustDeclareFlagCodeBlock(reuse))
         }
 
 
         method.addStatement("reader.beginObject()")
         method.beginControlFlow("while (reader.hasNext())")
-        method.beginControlFlow("switch (reader.nextName())")
-        val objectName = "object"
+        method.addStatement("String name = reader.nextName()")
+        method.beginControlFlow("switch (NAMES.indexOf(name))")
+        var nameIndex = 0
         for (field in model.getFields()) {
             for (name in field.serializedNameCandidates) {
-                method.addCode("case \$S:\n", name)
+                method.addCode("case \$L: // \$S\n", nameIndex++, name)
             }
-            method.addCode(field.buildReadCodeBlock(model.typeRegistry, objectName, "reader", model.modelType.reflectionName(), context))
+            method.addCode(field.buildReadCodeBlock(model.typeRegistry, objectName, "reader",
+                    model.modelType.reflectionName(), model.modelType, context, field.mustSetFlagName, reuse))
             method.addStatement("break")
         }
         method.addCode("default:\n")
         method.addStatement("reader.skipValue()")
+        method.addStatement("\$T.reportUnknownField(\$T.class, name)", Types.Metrics, model.modelType)
         method.addStatement("break")
         method.endControlFlow() // switch
         method.endControlFlow() // while
         method.addStatement("reader.endObject()")
 
+        if (reuse && model.getFields().any { it.isResetFromNewInstance }) {
+            method.addStatement("\$T \$L = null", model.modelType, FRESH)
+        }
         // NonNull checks
         for (field in model.getFields()) {
+            if (reuse) {
+                method.addCode(field.buildResetCodeBlock(objectName, field.mustSetFlagName, FRESH, newInstance))
+            }
             method.addCode(field.buildNullCheckCodeBlock(model.modelType.simpleName(), objectName))
-            method.addCode(field.buildMustSetCheckFlagCodeBlock(model.modelType.simpleName()))
+            method.addCode(field.buildMustSetCheckFlagCodeBlock(model.modelType.simpleName(), field.mustSetFlagName))
         }
+    }
 
-        method.addStatement("return object", model.modelType)
+    /**
+     * Dispatches each name to a `read$N` method by its index in [NAMES][buildNameTableField], and runs the checks in
+     * `check$N` methods. Must-set flags live in a `boolean[] set` shared by all the chunks.
+     *
+     * With `reuse`, the chunks are `readInto$N`, and `reset$N` resets the fields that were not set before the checks.
+     *
+     * @param objectType The type of the target object, or of the holder of constructor arguments
+     */
+    private fun addChunkedReadLoop(method: MethodSpec.Builder, chunks: List<List<FieldDefinition>>,
+            methods: MutableList<MethodSpec>, reuse: Boolean, objectType: TypeName, objectName: String) {
+        val readName = if (reuse) "readInto" else "read"
+        val checkName = if (reuse) "reset" else "check"
+        val setFlags = getSetFlags(reuse)
+        val hasSetFlags = setFlags.isNotEmpty()
+        val chunkArgs = if (hasSetFlags) "reader, $objectName, set, index" else "reader, $objectName, index"
+        val checkArgs = if (hasSetFlags) "$objectName, set" else objectName
+
+        if (hasSetFlags) {
+            method.addStatement("boolean[] set = new boolean[\$L]", setFlags.size)
+        }
+
+        method.addStatement("reader.beginObject()")
+        method.beginControlFlow("while (reader.hasNext())")
+        method.addStatement("String name = reader.nextName()")
+        method.addStatement("int index = NAMES.indexOf(name)")
+        method.beginControlFlow("if (index < 0)")
+        method.addStatement("reader.skipValue()")
+        method.addStatement("\$T.reportUnknownField(\$T.class, name)", Types.Metrics, model.modelType)
+
+        var nameIndex = 0
+        chunks.forEachIndexed { i, chunk ->
+            val readMethod = MethodSpec.methodBuilder("$readName\$$i")
+                    .addModifiers(Modifier.PRIVATE)
+                    .addException(IOException::class.java)
+                    .addParameter(JsonReader::class.java, "reader")
+                    .addParameter(objectType, objectName)
+            if (hasSetFlags) {
+                readMethod.addParameter(BooleanArray::class.java, "set")
+            }
+            readMethod.addParameter(TypeName.INT, "index")
+
+            readMethod.beginControlFlow("switch (index)")
+            for (field in chunk) {
+                for (name in field.serializedNameCandidates) {
+                    readMethod.addCode("case \$L: // \$S\n", nameIndex++, name)
+                }
+                readMethod.addCode(field.buildReadCodeBlock(model.typeRegistry, objectName, "reader",
+                        model.modelType.reflectionName(), model.modelType, context,
+                        setFlags[field] ?: field.mustSetFlagName, reuse))
+                readMethod.addStatement("break")
+            }
+            readMethod.endControlFlow() // switch
+            methods.add(readMethod.build())
+
+            if (i == chunks.size - 1) {
+                method.nextControlFlow("else")
+            } else {
+                method.nextControlFlow("else if (index < \$L)", nameIndex)
+            }
+            method.addStatement("\$L\$\$\$L(\$L)", readName, i, chunkArgs)
+        }
+        method.endControlFlow() // if
+        method.endControlFlow() // while
+        method.addStatement("reader.endObject()")
 
-        return method.build()
+        if (reuse && model.getFields().any { it.isResetFromNewInstance }) {
+            method.addStatement("\$T \$L = null", model.modelType, FRESH)
+        }
+        chunks.forEachIndexed { i, chunk ->
+            // the new instance to reset fields from is passed on to the next chunks
+            val passesFresh = reuse && chunk.any { it.isResetFromNewInstance }
+            val checks = CodeBlock.builder()
+            for (field in chunk) {
+                if (reuse) {
+                    checks.add(field.buildResetCodeBlock(objectName, setFlags[field]!!, FRESH, newInstance))
+                }
+                checks.add(field.buildNullCheckCodeBlock(model.modelType.simpleName(), objectName))
+                checks.add(field.buildMustSetCheckFlagCodeBlock(model.modelType.simpleName(),
+                        setFlags[field] ?: field.mustSetFlagName))
+            }
+            val code = checks.build()
+            if (!code.isEmpty) {
+                val checkMethod = MethodSpec.methodBuilder("$checkName\$$i")
+                        .addModifiers(Modifier.PRIVATE)
+                        .addParameter(objectType, objectName)
+                if (hasSetFlags) {
+                    checkMethod.addParameter(BooleanArray::class.java, "set")
+                }
+                if (passesFresh) {
+                    checkMethod.addParameter(model.modelType, FRESH)
+                    checkMethod.returns(model.modelType)
+                    checkMethod.addCode(code)
+                    checkMethod.addStatement("return \$L", FRESH)
+                    method.addStatement("\$L = \$L\$\$\$L(\$L, \$L)", FRESH, checkName, i, checkArgs, FRESH)
+                } else {
+                    checkMethod.addCode(code)
+                    method.addStatement("\$L\$\$\$L(\$L)", checkName, i, checkArgs)
+                }
+                methods.add(checkMethod.build())
+            }
+        }
+    }
+
+    /**
+     * @return The elements of `boolean[] set` that chunked read methods use as the set flags of fields
+     */
+    private fun getSetFlags(reuse: Boolean): Map<FieldDefinition, String> {
+        val setFlags = HashMap<FieldDefinition, String>()
+        for (field in model.getFields()) {
+            if (field.hasSetFlag(reuse)) {
+                setFlags[field] = "set[${setFlags.size}]"
+            }
+        }
+        return setFlags
     }
 
     private fun buildJavaFile(): JavaFile {
@@ -155,16 +607,55 @@ class TypeAdapterFactoryWriter(private val context: StaticGsonContext, private v
     }
 
     fun write() {
-        try {
-            buildJavaFile().writeTo(context.synchronizedFiler)
-        } catch (e: IOException) {
-            throw ProcessingException(e)
-        }
-
+        context.write(buildJavaFile())
     }
 
     companion object {
 
+        /**
+         * HotSpot doesn't JIT-compile methods with more bytecode than this (`-XX:HugeMethodLimit`)
+         */
+        const val HUGE_METHOD_LIMIT = 8000
+
+        /**
+         * Methods are split well below [HUGE_METHOD_LIMIT], as the size estimates of fields are rough
+         */
+        const val METHOD_SIZE_BUDGET = 5000
+
+        /**
+         * The name of the field for [ReflectionHelper.getDefaultsConstructor]
+         */
+        const val DEFAULTS_CONSTRUCTOR = "DEFAULTS_CONSTRUCTOR"
+
+        /**
+         * The local variable of `readInto()` for a new instance of the model, which is created for the first field
+         * reset from it
+         */
+        private const val FRESH = "fresh"
+
+        /**
+         * @param unsplitSize The estimated size of code that the method has in addition to `fields` if it is not split
+         * @return `fields` in one chunk if their estimated code fits in [METHOD_SIZE_BUDGET], or consecutive chunks that do
+         */
+        internal fun splitIntoChunks(fields: List<FieldDefinition>, unsplitSize: Int = 0,
+                estimate: (FieldDefinition) -> Int): List<List<FieldDefinition>> {
+            if (fields.sumBy(estimate) + unsplitSize <= METHOD_SIZE_BUDGET) {
+                return listOf(fields)
+            }
+            val chunks = ArrayList<MutableList<FieldDefinition>>()
+            var size = 0
+            for (field in fields) {
+                val fieldSize = estimate(field)
+                if (chunks.isEmpty() || size + fieldSize > METHOD_SIZE_BUDGET) {
+                    chunks.add(ArrayList())
+                    size = 0
+                }
+                chunks.last().add(field)
+                size += fieldSize
+            }
+            return chunks
+        }
+
         internal fun createTypeAdapterClassName(modelType: ClassName): String {
             val modelClassName = modelType.simpleNames().joinToString("$")
             return StaticGsonTypeAdapterFactory.getTypeAdapterFactoryName(modelClassName)
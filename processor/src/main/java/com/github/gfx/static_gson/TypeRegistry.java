@@ -15,10 +15,19 @@ public class TypeRegistry {
 
     private final Map<TypeName, FieldSpec> registry = new HashMap<>();
 
-    public TypeRegistry() {
+    private final boolean lazyAdapters;
+
+    /**
+     * @param lazyAdapters {@code true} to resolve the adapters of field types on first use instead of in the constructor
+     */
+    public TypeRegistry(boolean lazyAdapters) {
+        this.lazyAdapters = lazyAdapters;
     }
 
-    private static CodeBlock toInitializer(TypeName type) {
+    private CodeBlock toInitializer(TypeName type) {
+        if (lazyAdapters) {
+            return CodeBlock.of("$T.of(gson, $T.get($L))", Types.LazyTypeAdapter, Types.TypeToken, toTypeExpr(type));
+        }
         return CodeBlock.of("gson.getAdapter($T.get($L))", Types.TypeToken, toTypeExpr(type));
     }
 
@@ -2,6 +2,7 @@ package com.github.gfx.static_gson;
 
 import com.google.gson.TypeAdapter;
 import com.google.gson.internal.$Gson$Types;
+import com.google.gson.internal.ObjectConstructor;
 import com.google.gson.reflect.TypeToken;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.ParameterizedTypeName;
@@ -11,6 +12,26 @@ public class Types {
 
     public static final ClassName StaticGsonTypeAdapterFactory = ClassName.get(StaticGsonTypeAdapterFactory.class);
 
+    public static final ClassName StaticGsonIndex = ClassName.get(StaticGsonIndex.class);
+
+    public static final ClassName ParserHelper = ClassName.get(ParserHelper.class);
+
+    public static final ClassName JsonNameTable = ClassName.get(JsonNameTable.class);
+
+    public static final ClassName JsonName = ClassName.get(JsonName.class);
+
+    public static final ClassName StaticGsonWriter = ClassName.get(StaticGsonWriter.class);
+
+    public static final ClassName ReflectionHelper = ClassName.get(ReflectionHelper.class);
+
+    public static final ClassName LazyTypeAdapter = ClassName.get(LazyTypeAdapter.class);
+
+    public static final ClassName ReusableTypeAdapter = ClassName.get(ReusableTypeAdapter.class);
+
+    public static final ClassName LongValueWriter = ClassName.get(LongValueWriter.class);
+
+    public static final ClassName Metrics = ClassName.get(Metrics.class);
+
     public static final ClassName String = ClassName.get(String.class);
 
     public static final ClassName Date = ClassName.get(java.util.Date.class);
@@ -25,6 +46,8 @@ public class Types {
 
     public static final ClassName TypeAdapter = ClassName.get(TypeAdapter.class);
 
+    public static final ClassName ObjectConstructor = ClassName.get(ObjectConstructor.class);
+
     public static ParameterizedTypeName getTypeAdapter(TypeName type) {
         return ParameterizedTypeName.get(TypeAdapter, type.box());
     }
@@ -0,0 +1,305 @@
+package com.github.gfx.static_gson;
+
+import com.google.testing.compile.JavaFileObjects;
+
+import com.github.gfx.static_gson.annotation.JsonSerializable;
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+
+import org.jetbrains.kotlin.cli.common.ExitCode;
+import org.jetbrains.kotlin.cli.jvm.K2JVMCompiler;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import kotlin.Metadata;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.lang.model.element.Modifier;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Generated methods must stay under HotSpot's {@code HugeMethodLimit}, or they are never JIT-compiled.
+ */
+@RunWith(JUnit4.class)
+public class HugeMethodTest {
+
+    static final int FIELD_COUNT = 200;
+
+    /**
+     * The synthetic constructor takes the parameters, 8 bitmasks and a marker, within the limit of 255 slots
+     */
+    static final int PARAMETER_COUNT = 240;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void splitMethodsOfLargeModel() throws Exception {
+        Map<String, Integer> codeSizes = process(JavaFileObjects.forSourceString("huge.HugeModel", buildModelSource()),
+                "huge/HugeModel_StaticGsonTypeAdapter.class");
+
+        assertThat(codeSizes.keySet(), hasItem("read$0"));
+        assertThat(codeSizes.keySet(), hasItem("write$0"));
+        assertThat(codeSizes.keySet(), hasItem("readInto$0"));
+        assertUnderHugeMethodLimit(codeSizes);
+    }
+
+    @Test
+    public void splitMethodsOfLargeKotlinModel() throws Exception {
+        File classes = temporaryFolder.newFolder();
+        File source = new File(temporaryFolder.newFolder(), "HugeKotlinModel.kt");
+        Files.write(source.toPath(), buildKotlinModelSource().getBytes(StandardCharsets.UTF_8));
+        ExitCode exitCode = new K2JVMCompiler().exec(System.err, "-no-stdlib", "-no-reflect", "-java-parameters",
+                "-classpath", System.getProperty("java.class.path"), "-d", classes.getPath(), source.getPath());
+        assertThat(exitCode, is(ExitCode.OK));
+
+        Class<?> modelClass;
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classes.toURI().toURL()},
+                getClass().getClassLoader())) {
+            modelClass = classLoader.loadClass("huge.HugeKotlinModel");
+        }
+        Map<String, Integer> codeSizes = process(buildKotlinStub(modelClass),
+                "huge/HugeKotlinModel_StaticGsonTypeAdapter.class");
+
+        assertThat(codeSizes.keySet(), hasItem("read$0"));
+        assertUnderHugeMethodLimit(codeSizes);
+    }
+
+    /**
+     * @return The code sizes of the methods of {@code adapterPath}, generated with {@code readInto()}
+     */
+    Map<String, Integer> process(JavaFileObject source, String adapterPath) throws IOException {
+        File out = temporaryFolder.newFolder();
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null);
+        fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singletonList(out));
+        fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singletonList(out));
+
+        JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                Arrays.asList("-classpath", System.getProperty("java.class.path"),
+                        "-A" + StaticGsonProcessor.OPTION_READ_INTO + "=true"), null,
+                Collections.singletonList(source));
+        task.setProcessors(Collections.singletonList(new StaticGsonProcessor()));
+        assertThat(diagnostics.getDiagnostics().toString(), task.call(), is(true));
+
+        return getCodeSizes(Files.readAllBytes(new File(out, adapterPath).toPath()));
+    }
+
+    static void assertUnderHugeMethodLimit(Map<String, Integer> codeSizes) {
+        for (Map.Entry<String, Integer> entry : codeSizes.entrySet()) {
+            if (entry.getKey().equals("<clinit>")) {
+                // runs once, so it doesn't need to be JIT-compiled
+                continue;
+            }
+            assertTrue(entry.getKey() + " has " + entry.getValue() + " bytes of code",
+                    entry.getValue() < TypeAdapterFactoryWriter.HUGE_METHOD_LIMIT);
+        }
+    }
+
+    /**
+     * @return A model with {@link #FIELD_COUNT} fields of all the kinds that generate different read and write blocks
+     */
+    static String buildModelSource() {
+        String[] declarations = {
+                "public int int%d;",
+                "public String string%d;",
+                "public boolean boolean%d;",
+                "public long long%d;",
+                "public Double double%d;",
+                "public java.util.List<String> list%d;",
+                "@JsonStrict public int strict%d;",
+                "@JsonMustSet public int mustSet%d;",
+                "private String private%d;",
+        };
+        StringBuilder source = new StringBuilder()
+                .append("package huge;\n")
+                .append("import com.github.gfx.static_gson.annotation.JsonMustSet;\n")
+                .append("import com.github.gfx.static_gson.annotation.JsonSerializable;\n")
+                .append("import com.github.gfx.static_gson.annotation.JsonStrict;\n")
+                .append("@JsonSerializable\n")
+                .append("public class HugeModel {\n");
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            source.append(String.format(declarations[i % declarations.length], i)).append('\n');
+        }
+        return source.append("}\n").toString();
+    }
+
+    /**
+     * @return A Kotlin data class with {@link #PARAMETER_COUNT} constructor parameters with default values, which
+     * generated type adapters pass to the synthetic constructor with bitmasks
+     */
+    static String buildKotlinModelSource() {
+        String[] declarations = {
+                "val int%d: Int = %<d",
+                "val string%d: String? = null",
+                "val boolean%d: Boolean = false",
+                "val list%d: List<String> = emptyList()",
+        };
+        StringBuilder source = new StringBuilder()
+                .append("package huge\n")
+                .append("import com.github.gfx.static_gson.annotation.JsonSerializable\n")
+                .append("@JsonSerializable\n")
+                .append("data class HugeKotlinModel(\n");
+        for (int i = 0; i < PARAMETER_COUNT; i++) {
+            source.append(String.format(declarations[i % declarations.length], i))
+                    .append(i < PARAMETER_COUNT - 1 ? ",\n" : "\n");
+        }
+        return source.append(")\n").toString();
+    }
+
+    /**
+     * @return A stub of the compiled {@code modelClass} with its {@link Metadata}, as kapt generates for annotation
+     * processors. javac can't process the class file itself, as it loses the parameter names of constructors with
+     * parameter annotations.
+     */
+    static JavaFileObject buildKotlinStub(Class<?> modelClass) throws NoSuchMethodException {
+        Metadata metadata = modelClass.getAnnotation(Metadata.class);
+        AnnotationSpec.Builder metadataAnnotation = AnnotationSpec.builder(Metadata.class)
+                .addMember("k", "$L", metadata.k());
+        for (int version : metadata.mv()) {
+            metadataAnnotation.addMember("mv", "$L", version);
+        }
+        for (int version : metadata.bv()) {
+            metadataAnnotation.addMember("bv", "$L", version);
+        }
+        for (String data : metadata.d1()) {
+            metadataAnnotation.addMember("d1", "$S", data);
+        }
+        for (String string : metadata.d2()) {
+            metadataAnnotation.addMember("d2", "$S", string);
+        }
+
+        TypeSpec.Builder type = TypeSpec.classBuilder(modelClass.getSimpleName())
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addAnnotation(JsonSerializable.class)
+                .addAnnotation(metadataAnnotation.build());
+        MethodSpec.Builder constructor = MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PUBLIC);
+        // the order of getConstructors() is unspecified, and the synthetic one with the masks has no parameter names
+        Constructor<?> primaryConstructor = null;
+        for (Constructor<?> candidate : modelClass.getConstructors()) {
+            if (!candidate.isSynthetic() && (primaryConstructor == null
+                    || candidate.getParameterCount() > primaryConstructor.getParameterCount())) {
+                primaryConstructor = candidate;
+            }
+        }
+        for (Parameter parameter : primaryConstructor.getParameters()) {
+            String name = parameter.getName();
+            TypeName typeName = TypeName.get(parameter.getParameterizedType());
+            type.addField(typeName, name, Modifier.PRIVATE, Modifier.FINAL);
+            String getterName = "get" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            modelClass.getMethod(getterName);
+            type.addMethod(MethodSpec.methodBuilder(getterName)
+                    .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                    .returns(typeName)
+                    .addStatement("return $N", name)
+                    .build());
+            constructor.addParameter(typeName, name);
+            constructor.addStatement("this.$N = $N", name, name);
+        }
+        type.addMethod(constructor.build());
+
+        return JavaFile.builder(modelClass.getPackage().getName(), type.build()).build().toJavaFileObject();
+    }
+
+    /**
+     * @return The {@code code_length} of each method in {@code classFile}, keyed by name. Bridge methods are ignored.
+     */
+    static Map<String, Integer> getCodeSizes(byte[] classFile) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(classFile));
+        in.readInt(); // magic
+        in.readUnsignedShort(); // minor_version
+        in.readUnsignedShort(); // major_version
+
+        int constantPoolCount = in.readUnsignedShort();
+        String[] utf8 = new String[constantPoolCount];
+        for (int i = 1; i < constantPoolCount; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1: // Utf8
+                    utf8[i] = in.readUTF();
+                    break;
+                case 5: // Long
+                case 6: // Double
+                    in.skipBytes(8);
+                    i++;
+                    break;
+                case 7: // Class
+                case 8: // String
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    in.skipBytes(2);
+                    break;
+                case 15: // MethodHandle
+                    in.skipBytes(3);
+                    break;
+                default:
+                    in.skipBytes(4);
+                    break;
+            }
+        }
+
+        in.skipBytes(6); // access_flags, this_class, super_class
+        in.skipBytes(2 * in.readUnsignedShort()); // interfaces
+
+        for (int i = 0, fieldsCount = in.readUnsignedShort(); i < fieldsCount; i++) {
+            in.skipBytes(6); // access_flags, name_index, descriptor_index
+            for (int j = 0, attributesCount = in.readUnsignedShort(); j < attributesCount; j++) {
+                in.skipBytes(2);
+                in.skipBytes(in.readInt());
+            }
+        }
+
+        Map<String, Integer> codeSizes = new HashMap<>();
+        for (int i = 0, methodsCount = in.readUnsignedShort(); i < methodsCount; i++) {
+            int accessFlags = in.readUnsignedShort();
+            String name = utf8[in.readUnsignedShort()];
+            in.skipBytes(2); // descriptor_index
+            for (int j = 0, attributesCount = in.readUnsignedShort(); j < attributesCount; j++) {
+                String attributeName = utf8[in.readUnsignedShort()];
+                int length = in.readInt();
+                if (attributeName.equals("Code") && (accessFlags & 0x0040) == 0) { // not ACC_BRIDGE
+                    in.skipBytes(4); // max_stack, max_locals
+                    codeSizes.put(name, in.readInt());
+                    in.skipBytes(length - 8);
+                } else {
+                    in.skipBytes(length);
+                }
+            }
+        }
+        return codeSizes;
+    }
+}
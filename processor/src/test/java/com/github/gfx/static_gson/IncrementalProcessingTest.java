@@ -0,0 +1,119 @@
+package com.github.gfx.static_gson;
+
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.GradleRunner;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * With {@link StaticGsonProcessor#OPTION_ISOLATING}, Gradle regenerates only the type adapters of changed models.
+ * Otherwise it regenerates all of them, including those of enums that are not compiled again.
+ */
+@RunWith(JUnit4.class)
+public class IncrementalProcessingTest {
+
+    /**
+     * Gradle supports incremental annotation processing since 4.7, and processors declared {@code dynamic} since 5.0
+     */
+    static final String GRADLE_VERSION = "5.0";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void regenerateOnlyChangedModels() throws Exception {
+        File projectDir = temporaryFolder.getRoot();
+        write(projectDir, "settings.gradle", "rootProject.name = 'incremental'\n");
+        write(projectDir, "build.gradle", buildScript(true));
+        write(projectDir, "src/main/java/example/User.java", buildModelSource("User", "String", "name"));
+        write(projectDir, "src/main/java/example/Group.java", buildModelSource("Group", "String", "title"));
+        build(projectDir);
+
+        File userAdapter = new File(projectDir, "build/classes/java/main/example/User_StaticGsonTypeAdapter.class");
+        File groupAdapter = new File(projectDir, "build/classes/java/main/example/Group_StaticGsonTypeAdapter.class");
+        assertTrue(userAdapter.setLastModified(0));
+        assertTrue(groupAdapter.setLastModified(0));
+
+        write(projectDir, "src/main/java/example/User.java", buildModelSource("User", "String", "email"));
+        BuildResult result = build(projectDir);
+
+        assertThat(result.getOutput(), not(containsString("Full recompilation is required")));
+        assertThat(userAdapter.lastModified(), is(not(0L)));
+        assertThat(groupAdapter.lastModified(), is(0L));
+    }
+
+    @Test
+    public void regenerateEnumTypeAdaptersWhenAggregating() throws Exception {
+        File projectDir = temporaryFolder.getRoot();
+        write(projectDir, "settings.gradle", "rootProject.name = 'incremental'\n");
+        write(projectDir, "build.gradle", buildScript(false));
+        write(projectDir, "src/main/java/example/Status.java",
+                "package example;\npublic enum Status { ACTIVE, DELETED }\n");
+        write(projectDir, "src/main/java/example/User.java", buildModelSource("User", "Status", "status"));
+        build(projectDir);
+
+        File enumAdapter = new File(projectDir, "build/classes/java/main/example/Status_StaticGsonTypeAdapter.class");
+        File index = new File(projectDir, "build/classes/java/main/example/_StaticGsonIndex.class");
+        assertTrue(enumAdapter.exists());
+
+        // Status is not compiled again, but User still references it
+        write(projectDir, "src/main/java/example/User.java", buildModelSource("User", "Status", "previousStatus"));
+        BuildResult result = build(projectDir);
+
+        assertThat(result.getOutput(), not(containsString("Full recompilation is required")));
+        assertTrue(enumAdapter.exists());
+        assertThat(new String(Files.readAllBytes(index.toPath()), StandardCharsets.ISO_8859_1),
+                containsString("Status_StaticGsonTypeAdapter"));
+    }
+
+    static String buildScript(boolean isolating) {
+        StringBuilder classpath = new StringBuilder();
+        for (String path : System.getProperty("staticgson.testClasspath").split(File.pathSeparator)) {
+            classpath.append(classpath.length() == 0 ? "'" : ", '").append(path.replace('\\', '/')).append('\'');
+        }
+        return "apply plugin: 'java'\n"
+                + "dependencies {\n"
+                + "    compile files(" + classpath + ")\n"
+                + "    annotationProcessor files(" + classpath + ")\n"
+                + "}\n"
+                + "compileJava.options.compilerArgs << '-A" + StaticGsonProcessor.OPTION_ISOLATING + "=" + isolating
+                + "'\n";
+    }
+
+    static String buildModelSource(String className, String fieldType, String fieldName) {
+        return "package example;\n"
+                + "import com.github.gfx.static_gson.annotation.JsonSerializable;\n"
+                + "@JsonSerializable\n"
+                + "public class " + className + " {\n"
+                + "    public " + fieldType + " " + fieldName + ";\n"
+                + "}\n";
+    }
+
+    static void write(File projectDir, String path, String content) throws IOException {
+        File file = new File(projectDir, path);
+        Files.createDirectories(file.getParentFile().toPath());
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static BuildResult build(File projectDir) {
+        return GradleRunner.create()
+                .withGradleVersion(GRADLE_VERSION)
+                .withProjectDir(projectDir)
+                .withArguments("compileJava", "--info")
+                .build();
+    }
+}
@@ -0,0 +1,164 @@
+package com.github.gfx.static_gson;
+
+import com.google.testing.compile.JavaFileObjects;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.processing.Completion;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.JavaFileObject;
+
+import static com.google.common.truth.Truth.assert_;
+import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Gradle recompiles a generated file when one of its originating elements changes, so they must include every element
+ * that the content of the file depends on.
+ */
+@RunWith(JUnit4.class)
+public class OriginatingElementsTest {
+
+    static final List<JavaFileObject> SOURCES = Arrays.asList(
+            JavaFileObjects.forSourceLines("example.Status",
+                    "package example;",
+                    "public enum Status { ACTIVE, DELETED }"),
+            JavaFileObjects.forSourceLines("example.User",
+                    "package example;",
+                    "import com.github.gfx.static_gson.annotation.JsonSerializable;",
+                    "@JsonSerializable",
+                    "public class User {",
+                    "    public Status status;",
+                    "}"),
+            JavaFileObjects.forSourceLines("example.Group",
+                    "package example;",
+                    "import com.github.gfx.static_gson.annotation.JsonSerializable;",
+                    "@JsonSerializable",
+                    "public class Group {",
+                    "    public java.util.List<Status> statuses;",
+                    "}"));
+
+    @Test
+    public void originateEnumTypeAdaptersFromReferencingModels() throws Exception {
+        RecordingProcessor processor = new RecordingProcessor();
+        assert_().about(javaSources())
+                .that(SOURCES)
+                .processedWith(processor)
+                .compilesWithoutError();
+
+        assertThat(processor.originatingElements.get("example.Status_StaticGsonTypeAdapter"),
+                is(names("example.Group", "example.Status", "example.User")));
+        assertThat(processor.originatingElements.get("example.User_StaticGsonTypeAdapter"),
+                is(names("example.User")));
+        assertThat(processor.originatingElements.get("example._StaticGsonIndex"),
+                is(names("example.Group", "example.Status", "example.User")));
+    }
+
+    @Test
+    public void originateEachFileFromOneModelWhenIsolating() throws Exception {
+        RecordingProcessor processor = new RecordingProcessor();
+        assert_().about(javaSources())
+                .that(SOURCES)
+                .withCompilerOptions("-A" + StaticGsonProcessor.OPTION_ISOLATING + "=true")
+                .processedWith(processor)
+                .compilesWithoutError();
+
+        // enums are left to Gson
+        assertThat(processor.originatingElements.keySet(),
+                is(names("example.Group_StaticGsonTypeAdapter", "example.User_StaticGsonTypeAdapter")));
+        assertThat(processor.originatingElements.get("example.User_StaticGsonTypeAdapter"),
+                is(names("example.User")));
+    }
+
+    static Set<String> names(String... names) {
+        return new HashSet<>(Arrays.asList(names));
+    }
+
+    /**
+     * Records the originating elements of the source files that {@link StaticGsonProcessor} creates
+     */
+    static class RecordingProcessor implements Processor {
+
+        final Processor processor = new StaticGsonProcessor();
+
+        final Map<String, Set<String>> originatingElements = new ConcurrentHashMap<>();
+
+        @Override
+        public void init(ProcessingEnvironment processingEnv) {
+            Filer filer = processingEnv.getFiler();
+            Filer recordingFiler = proxy(Filer.class, (proxy, method, args) -> {
+                if (method.getName().equals("createSourceFile")) {
+                    Set<String> names = new TreeSet<>();
+                    for (Element element : (Element[]) args[1]) {
+                        names.add(((TypeElement) element).getQualifiedName().toString());
+                    }
+                    originatingElements.put(args[0].toString(), names);
+                }
+                return invoke(filer, method, args);
+            });
+            processor.init(proxy(ProcessingEnvironment.class, (proxy, method, args) ->
+                    method.getName().equals("getFiler") ? recordingFiler : invoke(processingEnv, method, args)));
+        }
+
+        @Override
+        public Set<String> getSupportedOptions() {
+            return processor.getSupportedOptions();
+        }
+
+        @Override
+        public Set<String> getSupportedAnnotationTypes() {
+            return processor.getSupportedAnnotationTypes();
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return processor.getSupportedSourceVersion();
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            return processor.process(annotations, roundEnv);
+        }
+
+        @Override
+        public Iterable<? extends Completion> getCompletions(Element element, AnnotationMirror annotation,
+                ExecutableElement member, String userText) {
+            return processor.getCompletions(element, annotation, member, userText);
+        }
+    }
+
+    static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
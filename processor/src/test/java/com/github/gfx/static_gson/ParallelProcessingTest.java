@@ -0,0 +1,122 @@
+package com.github.gfx.static_gson;
+
+import com.google.testing.compile.JavaFileObjects;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Generates the type adapters of a corpus of {@link #MODEL_COUNT} models with different numbers of workers, which must
+ * not change the output.
+ */
+@RunWith(JUnit4.class)
+public class ParallelProcessingTest {
+
+    static final int MODEL_COUNT = 2000;
+
+    static final int PACKAGE_COUNT = 20;
+
+    static final int[] WORKERS = {1, 4, 16};
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void generateSameSourcesWithAnyWorkers() throws Exception {
+        List<JavaFileObject> corpus = buildCorpus();
+
+        Map<String, String> expected = null;
+        for (int workers : WORKERS) {
+            File out = temporaryFolder.newFolder();
+            process(corpus, workers, out);
+
+            Map<String, String> sources = readSources(out);
+            assertThat(sources.size(), is(MODEL_COUNT + PACKAGE_COUNT));
+            if (expected == null) {
+                expected = sources;
+            } else {
+                assertThat(sources, is(expected));
+            }
+        }
+    }
+
+    /**
+     * @return Models in {@link #PACKAGE_COUNT} packages, each with fields of simple types, a list and the next model
+     */
+    static List<JavaFileObject> buildCorpus() {
+        List<JavaFileObject> corpus = new ArrayList<>();
+        for (int i = 0; i < MODEL_COUNT; i++) {
+            String packageName = "corpus" + i % PACKAGE_COUNT;
+            int next = (i + 1) % MODEL_COUNT;
+            String source = "package " + packageName + ";\n"
+                    + "import com.github.gfx.static_gson.annotation.JsonSerializable;\n"
+                    + "@JsonSerializable\n"
+                    + "public class Model" + i + " {\n"
+                    + "    public int id;\n"
+                    + "    public long createdAt;\n"
+                    + "    public boolean active;\n"
+                    + "    public String name;\n"
+                    + "    public Double score;\n"
+                    + "    public java.util.List<String> tags;\n"
+                    + "    public corpus" + next % PACKAGE_COUNT + ".Model" + next + " next;\n"
+                    + "}\n";
+            corpus.add(JavaFileObjects.forSourceString(packageName + ".Model" + i, source));
+        }
+        return corpus;
+    }
+
+    static void process(List<JavaFileObject> corpus, int workers, File out) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null);
+        fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singletonList(out));
+        fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singletonList(out));
+
+        JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                Arrays.asList("-proc:only", "-classpath", System.getProperty("java.class.path"),
+                        "-A" + StaticGsonProcessor.OPTION_WORKERS + "=" + workers), null, corpus);
+        task.setProcessors(Collections.singletonList(new StaticGsonProcessor()));
+        assertThat(diagnostics.getDiagnostics().toString(), task.call(), is(true));
+    }
+
+    /**
+     * @return The content of each generated source file, keyed by its path
+     */
+    static Map<String, String> readSources(File out) throws IOException {
+        Map<String, String> sources = new HashMap<>();
+        try (Stream<Path> paths = Files.walk(out.toPath())) {
+            for (Path path : paths.filter(path -> path.toString().endsWith(".java")).collect(Collectors.toList())) {
+                sources.put(out.toPath().relativize(path).toString(),
+                        new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+            }
+        }
+        return sources;
+    }
+}
@@ -2,14 +2,35 @@ package com.github.gfx.static_gson;
 
 import com.google.testing.compile.JavaFileObjects;
 
+import com.github.gfx.static_gson.annotation.JsonSerializable;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.TypeName;
+
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
 import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
 
 import static com.google.common.truth.Truth.assert_;
 import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
+import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 
 @RunWith(JUnit4.class)
 public class StaticGsonProcessorTest {
@@ -24,4 +45,148 @@ public class StaticGsonProcessorTest {
                 .compilesWithoutWarnings();
     }
 
+    @Test
+    public void processFieldsInheritedFromAnotherPackage() throws Exception {
+        JavaFileObject baseFile = JavaFileObjects.forSourceLines("a.Base",
+                "package a;",
+                "public class Base {",
+                "    private String name;",
+                "    private int age;",
+                "    protected String getName() { return name; }",
+                "    protected void setName(String name) { this.name = name; }",
+                "    public int getAge() { return age; }",
+                "    public void setAge(int age) { this.age = age; }",
+                "}");
+        JavaFileObject childFile = JavaFileObjects.forSourceLines("b.Child",
+                "package b;",
+                "import com.github.gfx.static_gson.annotation.JsonSerializable;",
+                "@JsonSerializable",
+                "public class Child extends a.Base {",
+                "    public String nickname;",
+                "}");
+
+        // the protected accessors of name are not callable from package b, so it is accessed with reflection
+        assert_().about(javaSources())
+                .that(Arrays.asList(baseFile, childFile))
+                .processedWith(new StaticGsonProcessor())
+                .compilesWithoutError()
+                .and()
+                .generatesFileNamed(StandardLocation.CLASS_OUTPUT, "b", "Child_StaticGsonTypeAdapter.class");
+    }
+
+    @Test
+    public void reportFieldsWithTheSameSerializedName() throws Exception {
+        JavaFileObject modelFile = JavaFileObjects.forSourceLines("com.example.Account",
+                "package com.example;",
+                "import com.github.gfx.static_gson.annotation.JsonSerializable;",
+                "import com.google.gson.annotations.SerializedName;",
+                "@JsonSerializable",
+                "public class Account {",
+                "    public String name;",
+                "    @SerializedName(value = \"display_name\", alternate = {\"name\"})",
+                "    public String displayName;",
+                "}");
+
+        assert_().about(javaSource())
+                .that(modelFile)
+                .processedWith(new StaticGsonProcessor())
+                .failsToCompile()
+                .withErrorContaining("com.example.Account declares multiple JSON fields named \"name\": "
+                        + "com.example.Account.name and com.example.Account.displayName");
+    }
+
+    @Test
+    public void processEnumConstantsWithTheSameSerializedName() throws Exception {
+        JavaFileObject enumFile = JavaFileObjects.forSourceLines("com.example.Color",
+                "package com.example;",
+                "import com.google.gson.annotations.SerializedName;",
+                "public enum Color {",
+                "    @SerializedName(\"red\") RED,",
+                "    @SerializedName(value = \"crimson\", alternate = {\"red\"}) CRIMSON,",
+                "    @SerializedName(\"crimson\") SCARLET",
+                "}");
+        JavaFileObject modelFile = JavaFileObjects.forSourceLines("com.example.Paint",
+                "package com.example;",
+                "import com.github.gfx.static_gson.annotation.JsonSerializable;",
+                "@JsonSerializable",
+                "public class Paint {",
+                "    public Color color;",
+                "}");
+
+        // a name reads as the last constant that declares it, as in Gson
+        assert_().about(javaSources())
+                .that(Arrays.asList(enumFile, modelFile))
+                .processedWith(new StaticGsonProcessor())
+                .compilesWithoutError()
+                .and()
+                .generatesFileNamed(StandardLocation.CLASS_OUTPUT, "com.example", "Color_StaticGsonTypeAdapter.class");
+    }
+
+    @Test
+    public void processModelsOfLaterRounds() throws Exception {
+        JavaFileObject modelFile = JavaFileObjects.forSourceLines("com.example.First",
+                "package com.example;",
+                "import com.github.gfx.static_gson.annotation.JsonSerializable;",
+                "@JsonSerializable",
+                "public class First {",
+                "    public String name;",
+                "}");
+
+        // the index of com.example is written in the first round, so Second is found by its class name
+        assert_().about(javaSource())
+                .that(modelFile)
+                .processedWith(new LaterModelProcessor(), new StaticGsonProcessor())
+                .compilesWithoutError()
+                .and()
+                .generatesFileNamed(StandardLocation.CLASS_OUTPUT, "com.example", "_StaticGsonIndex.class")
+                .and()
+                .generatesFileNamed(StandardLocation.CLASS_OUTPUT, "com.example", "First_StaticGsonTypeAdapter.class")
+                .and()
+                .generatesFileNamed(StandardLocation.CLASS_OUTPUT, "com.example", "Second_StaticGsonTypeAdapter.class");
+    }
+
+    /**
+     * Generates a model in the package of {@code First} in the first round
+     */
+    static class LaterModelProcessor extends AbstractProcessor {
+
+        @Override
+        public Set<String> getSupportedAnnotationTypes() {
+            return Collections.singleton(JsonSerializable.class.getName());
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return SourceVersion.latestSupported();
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            if (roundEnv.getRootElements().stream().noneMatch(element -> element.getSimpleName().contentEquals("First"))) {
+                return false;
+            }
+            try (Writer writer = processingEnv.getFiler().createSourceFile("com.example.Second").openWriter()) {
+                writer.write("package com.example;\n"
+                        + "@com.github.gfx.static_gson.annotation.JsonSerializable\n"
+                        + "public class Second {\n"
+                        + "    public First first;\n"
+                        + "}\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return false;
+        }
+    }
+
+    @Test
+    public void formatModelTimes() throws Exception {
+        Map<TypeName, Long> modelNanos = new HashMap<>();
+        for (int i = 1; i <= 4; i++) {
+            modelNanos.put(ClassName.get("com.example", "Model" + i), i * 1_000_000L);
+        }
+
+        assertThat(StaticGsonProcessor.formatModelTimes(modelNanos),
+                is(" (2.50ms per model, slowest: com.example.Model4 4.00ms, com.example.Model3 3.00ms,"
+                        + " com.example.Model2 2.00ms)"));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,159 @@
+package com.github.gfx.static_gson.readinto;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+
+import com.github.gfx.static_gson.CollectionTypeAdapterFactory;
+import com.github.gfx.static_gson.JsonGracefulException;
+import com.github.gfx.static_gson.ParserHelper;
+import com.github.gfx.static_gson.ReusableTypeAdapter;
+import com.github.gfx.static_gson.StaticGsonTypeAdapterFactory;
+import com.github.gfx.static_gson.annotation.JsonMustSet;
+import com.github.gfx.static_gson.annotation.JsonSerializable;
+import com.github.gfx.static_gson.readinto.model.Book;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests of this module are processed with {@code staticgson.readInto}, unlike the library tests.
+ *
+ * @see ReusableTypeAdapter
+ */
+public class ReadIntoTest {
+
+    Gson gson;
+
+    @Before
+    public void setUp() throws Exception {
+        gson = new GsonBuilder()
+                .registerTypeAdapterFactory(StaticGsonTypeAdapterFactory.newInstance())
+                .registerTypeAdapterFactory(new CollectionTypeAdapterFactory())
+                .create();
+    }
+
+    <T> T readInto(Class<T> type, String json, T target) throws IOException {
+        TypeAdapter<T> adapter = gson.getAdapter(type);
+        assertThat(adapter, is(instanceOf(ReusableTypeAdapter.class)));
+        return ParserHelper.readInto(adapter, new JsonReader(new StringReader(json)), target);
+    }
+
+    @Test
+    public void readIntoExistingInstances() throws Exception {
+        Book book = new Book();
+        book.title = "old";
+        book.authors = new ArrayList<>(Arrays.asList(Book.Author.create("a"), Book.Author.create("b"),
+                Book.Author.create("c")));
+        List<Book.Author> authors = book.authors;
+        Book.Author first = book.authors.get(0);
+
+        String json = "{\"title\":\"About JSON\",\"authors\":[{\"name\":\"foo\"},{\"name\":\"bar\"}]}";
+        Book result = readInto(Book.class, json, book);
+
+        assertThat(result, is(sameInstance(book)));
+        assertThat(result, is(gson.fromJson(json, Book.class)));
+        assertThat(result.authors, is(sameInstance(authors)));
+        assertThat(result.authors.get(0), is(sameInstance(first)));
+    }
+
+    @Test
+    public void resetMissingFields() throws Exception {
+        Book book = gson.fromJson("{\"title\":\"About JSON\",\"authors\":[{\"name\":\"foo\"}]}", Book.class);
+
+        assertThat(readInto(Book.class, "{}", book), is(new Book()));
+        assertThat(readInto(Book.class, "{\"title\":null,\"authors\":[{}]}", book),
+                is(gson.fromJson("{\"authors\":[{}]}", Book.class)));
+    }
+
+    @Test
+    public void resetMissingFieldsFromOneNewInstance() throws Exception {
+        ListsModel model = readInto(ListsModel.class, "{\"first\":[\"a\"],\"second\":[\"b\"]}", new ListsModel());
+        List<String> first = model.first;
+        ListsModel.instances = 0;
+
+        readInto(ListsModel.class, "{}", model);
+
+        assertThat(ListsModel.instances, is(1));
+        assertThat(model.first, is(not(sameInstance(first))));
+        assertThat(model.first, is(Collections.<String>emptyList()));
+        assertThat(model.second, is(Collections.<String>emptyList()));
+        assertThat(model.third, is(nullValue()));
+    }
+
+    @Test
+    public void doNotModifyFixedSizeLists() throws Exception {
+        Book book = new Book();
+        List<Book.Author> authors = Arrays.asList(Book.Author.create("a"));
+        book.authors = authors;
+
+        readInto(Book.class, "{\"authors\":[{\"name\":\"foo\"},{\"name\":\"bar\"}]}", book);
+
+        assertThat(book.authors, is(Arrays.asList(Book.Author.create("foo"), Book.Author.create("bar"))));
+        assertThat(authors, is(Arrays.asList(Book.Author.create("a"))));
+    }
+
+    @Test
+    public void readNull() throws Exception {
+        assertThat(readInto(Book.class, "null", new Book()), is(nullValue()));
+    }
+
+    @Test
+    public void checkMustSetAndNonNull() throws Exception {
+        CheckedModel model = readInto(CheckedModel.class, "{\"count\":1,\"name\":\"foo\"}", new CheckedModel());
+        assertThat(model.count, is(1));
+
+        try {
+            readInto(CheckedModel.class, "{\"name\":\"foo\"}", model);
+            fail();
+        } catch (JsonGracefulException ex) {
+            assertThat(ex.getMessage(), is("CheckedModel.count must be set"));
+        }
+
+        try {
+            readInto(CheckedModel.class, "{\"count\":1}", model);
+            fail();
+        } catch (JsonGracefulException ex) {
+            assertThat(ex.getMessage(), is("CheckedModel.name must not be null"));
+        }
+    }
+
+    @JsonSerializable
+    public static class ListsModel {
+
+        static int instances;
+
+        public List<String> first = new ArrayList<>();
+
+        public List<String> second = new ArrayList<>();
+
+        public List<String> third;
+
+        public ListsModel() {
+            instances++;
+        }
+    }
+
+    @JsonSerializable
+    public static class CheckedModel {
+
+        @JsonMustSet
+        public int count;
+
+        @NotNull
+        public String name;
+    }
+}